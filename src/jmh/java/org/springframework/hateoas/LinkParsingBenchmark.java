@@ -0,0 +1,72 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for parsing and rendering {@link Link}s and {@link Links} in their RFC 5988 header format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinkParsingBenchmark {
+
+	static final String LINK = "</orders/4711>;rel=\"self\";hreflang=\"en\";title=\"Order 4711\"";
+	static final String LINKS = "</orders/4711>;rel=\"self\",</orders?page=0&size=20>;rel=\"first\","
+			+ "</orders?page=1&size=20>;rel=\"prev\",</orders?page=3&size=20>;rel=\"next\","
+			+ "</orders?page=9&size=20>;rel=\"last\",</orders/4711/items{?page,size}>;rel=\"items\"";
+
+	Links links = Links.valueOf(LINKS);
+
+	@Benchmark
+	public Link createLink() {
+		return new Link("/orders/4711", Link.REL_SELF);
+	}
+
+	@Benchmark
+	public Link createTemplatedLink() {
+		return new Link("/orders/4711/items{?page,size}", "items");
+	}
+
+	@Benchmark
+	public Link parseLink() {
+		return Link.valueOf(LINK);
+	}
+
+	@Benchmark
+	public Links parseLinks() {
+		return Links.valueOf(LINKS);
+	}
+
+	@Benchmark
+	public String renderLinks() {
+		return links.toString();
+	}
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Benchmarks for the creation and expansion of {@link UriTemplate}s. The {@code …Legacy} benchmarks replay what
+ * {@link UriTemplate} used to do before templates were compiled (parsing the base URI into a Spring
+ * {@link org.springframework.web.util.UriTemplate} and {@link UriComponentsBuilder} on every expansion and rendering)
+ * and serve as baseline. Run with the GC profiler to compare allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UriTemplateBenchmark {
+
+	static final String PLAIN = "http://localhost:8080/orders/4711";
+	static final String TEMPLATED = "http://localhost:8080/orders/{id}/items{?page,size,sort}";
+	static final String BASE = "http://localhost:8080/orders/{id}/items";
+	static final String EXPLODED = "http://localhost:8080{/segments*}/items{;matrix*}{?filter*}";
+
+	UriTemplate template = new UriTemplate(TEMPLATED);
+	UriTemplate exploded = new UriTemplate(EXPLODED);
+	Map<String, Object> explodedValues = new HashMap<>();
+
+	{
+		Map<String, String> filter = new HashMap<>();
+		filter.put("status", "open");
+		filter.put("customer", "Dave Matthews");
+
+		List<String> segments = Arrays.asList("customers", "4711", "orders");
+
+		explodedValues.put("segments", segments);
+		explodedValues.put("matrix", Arrays.asList("a", "b"));
+		explodedValues.put("filter", filter);
+	}
+
+	@Benchmark
+	public UriTemplate createPlainTemplate() {
+		return new UriTemplate(PLAIN);
+	}
+
+	@Benchmark
+	public UriTemplate createTemplate() {
+		return new UriTemplate(TEMPLATED);
+	}
+
+	@Benchmark
+	public URI expandTemplate() {
+		return template.expand(4711, 0, 20, "name");
+	}
+
+	@Benchmark
+	public URI expandTemplateLegacy() {
+
+		URI base = new org.springframework.web.util.UriTemplate(BASE).expand(4711);
+
+		return UriComponentsBuilder.fromUri(base) //
+				.queryParam("page", 0) //
+				.queryParam("size", 20) //
+				.queryParam("sort", "name") //
+				.build().toUri();
+	}
+
+	@Benchmark
+	public URI expandExplodedTemplate() {
+		return exploded.expand(explodedValues);
+	}
+
+	@Benchmark
+	public String renderTemplate() {
+		return template.toString();
+	}
+
+	@Benchmark
+	public String renderTemplateLegacy() {
+
+		boolean hasQueryParameters = !UriComponentsBuilder.fromUriString(BASE).build().getQueryParams().isEmpty();
+
+		return BASE + template.getVariables().stream() //
+				.filter(variable -> variable.getType().isOptional()) //
+				.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new)) //
+				.toString(hasQueryParameters);
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+
+/**
+ * Benchmarks for looking up links in HAL documents with a growing number of embedded resources, as done by
+ * {@link org.springframework.hateoas.client.Traverson} for every hop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalLinkDiscovererBenchmark {
+
+	@Param({ "10", "100", "1000" }) int size;
+
+	LinkDiscoverer discoverer = new HalLinkDiscoverer();
+	String document;
+
+	@Setup
+	public void setUp() {
+
+		StringBuilder builder = new StringBuilder();
+
+		builder.append("{ \"_links\" : {");
+		builder.append("\"self\" : { \"href\" : \"http://localhost:8080/orders\" },");
+		builder.append("\"next\" : { \"href\" : \"http://localhost:8080/orders?page=1\" },");
+		builder.append("\"search\" : { \"href\" : \"http://localhost:8080/orders/search\" }");
+		builder.append("}, \"_embedded\" : { \"orders\" : [");
+
+		for (int i = 0; i < size; i++) {
+
+			builder.append(i == 0 ? "" : ",");
+			builder.append("{ \"id\" : ").append(i).append(", \"description\" : \"Order ").append(i).append("\",");
+			builder.append("\"_links\" : {");
+			builder.append("\"self\" : { \"href\" : \"http://localhost:8080/orders/").append(i).append("\" },");
+			builder.append("\"items\" : { \"href\" : \"http://localhost:8080/orders/").append(i).append("/items\" }");
+			builder.append("} }");
+		}
+
+		builder.append("] } }");
+
+		this.document = builder.toString();
+	}
+
+	@Benchmark
+	public Link findLinkWithRel() {
+		return discoverer.findLinkWithRel("search", document);
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.PagedResources.PageMetadata;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.core.EvoInflectorRelProvider;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Benchmarks for rendering {@link Resources} and {@link PagedResources} of different sizes as HAL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalSerializationBenchmark {
+
+	@Param({ "10", "100", "1000" }) int size;
+
+	ObjectWriter writer;
+	Resources<Resource<Order>> resources;
+	PagedResources<Resource<Order>> pagedResources;
+
+	@Setup
+	public void setUp() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.setHandlerInstantiator(new HalHandlerInstantiator(new EvoInflectorRelProvider(),
+				new DefaultCurieProvider("ex", new UriTemplate("http://localhost:8080/rels/{rel}")), null,
+				new HalConfiguration()));
+
+		List<Resource<Order>> content = new ArrayList<>(size);
+
+		for (int i = 0; i < size; i++) {
+
+			Resource<Order> resource = new Resource<>(new Order(i, "Order " + i));
+			resource.add(new Link("http://localhost:8080/orders/" + i));
+			resource.add(new Link("http://localhost:8080/orders/" + i + "/items{?page,size}", "items"));
+			resource.add(new Link("http://localhost:8080/customers/" + (i % 17), "customer"));
+
+			content.add(resource);
+		}
+
+		this.writer = mapper.writer();
+		this.resources = new Resources<>(content, new Link("http://localhost:8080/orders"));
+		this.pagedResources = new PagedResources<>(content, new PageMetadata(size, 0, size * 10),
+				new Link("http://localhost:8080/orders?page=0"),
+				new Link("http://localhost:8080/orders?page=1", Link.REL_NEXT));
+	}
+
+	@Benchmark
+	public byte[] renderResources() throws Exception {
+		return writer.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public byte[] renderPagedResources() throws Exception {
+		return writer.writeValueAsBytes(pagedResources);
+	}
+
+	public static class Order {
+
+		private final long id;
+		private final String description;
+
+		public Order(long id, String description) {
+			this.id = id;
+			this.description = description;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Benchmarks for creating {@link Link}s to Spring MVC controller methods outside of a request, i.e. using relative
+ * URIs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerLinkBuilderBenchmark {
+
+	static final Method ITEMS = ReflectionUtils.findMethod(OrderController.class, "items", Long.class, Integer.class,
+			Integer.class);
+
+	ControllerLinkTemplate template = template(OrderController.class, ITEMS);
+
+	@Benchmark
+	public Link linkToController() {
+		return linkTo(OrderController.class).withRel("orders");
+	}
+
+	@Benchmark
+	public Link linkToMethodOn() {
+		return linkTo(methodOn(OrderController.class).order(4711L)).withSelfRel();
+	}
+
+	@Benchmark
+	public Link linkToMethodOnWithRequestParameters() {
+		return linkTo(methodOn(OrderController.class).items(4711L, 0, null)).withRel("items");
+	}
+
+	@Benchmark
+	public Link linkTemplateWithRequestParameters() {
+		return template.expand(4711L, 0, null).withRel("items");
+	}
+
+	@RequestMapping("/orders")
+	static class OrderController {
+
+		@GetMapping("/{id}")
+		HttpEntity<?> order(@PathVariable Long id) {
+			return null;
+		}
+
+		@GetMapping("/{id}/items")
+		HttpEntity<?> items(@PathVariable Long id, @RequestParam Integer page,
+				@RequestParam(required = false) Integer size) {
+			return null;
+		}
+	}
+}
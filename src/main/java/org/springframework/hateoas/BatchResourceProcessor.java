@@ -0,0 +1,48 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ResourceProcessor} to process all matching elements of a {@link Resources} instance at once, e.g. to look up
+ * additional data for all of them in a single query. It's invoked in the same order relative to other
+ * {@link ResourceProcessor}s as if it processed the elements one by one. Resources not being part of a
+ * {@link Resources} instance are handed to it as single element {@link List}s.
+ *
+ * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker
+ * @since 1.0
+ */
+public interface BatchResourceProcessor<T extends ResourceSupport> extends ResourceProcessor<T> {
+
+	/**
+	 * Processes the given resources, add links, alter the domain data etc.
+	 *
+	 * @param resources will never be {@literal null} or empty.
+	 * @return the processed resources in the order of the given ones, must not be {@literal null}.
+	 */
+	List<T> processAll(List<T> resources);
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.ResourceProcessor#process(org.springframework.hateoas.ResourceSupport)
+	 */
+	@Override
+	default T process(T resource) {
+		return processAll(Collections.singletonList(resource)).get(0);
+	}
+}
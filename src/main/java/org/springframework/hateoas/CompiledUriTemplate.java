@@ -0,0 +1,1075 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import static org.springframework.hateoas.TemplateVariable.VariableType.*;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * A URI template compiled into an immutable sequence of literal and expression parts by a single pass over the
+ * template. Expansion writes the parts straight into a {@link StringBuilder} and implements levels 1 to 4 of RFC 6570,
+ * i.e. all operators, the explode modifier and prefix modifiers as well as list and map values.
+ * <p>
+ * Deviating from the RFC, the first request parameter expanded uses {@code ?} or {@code &} depending on whether the URI
+ * already contains a query. That allows optional request parameters to be left out without breaking subsequent ones.
+ *
+ * @see UriTemplate
+ * @see https://tools.ietf.org/html/rfc6570
+ */
+final class CompiledUriTemplate implements Serializable {
+
+	private static final long serialVersionUID = -8516235788613640454L;
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	private static final int MAX_PREFIX = 9999;
+
+	private final Part[] parts;
+	private final List<String> names;
+	private final List<TemplateVariable> variables;
+	private final String baseUri;
+	private final int expansionSize;
+
+	private transient String rendered;
+
+	private CompiledUriTemplate(String literal) {
+
+		this.parts = new Part[] { new Literal(literal) };
+		this.names = Collections.emptyList();
+		this.variables = Collections.emptyList();
+		this.baseUri = literal;
+		this.expansionSize = literal.length();
+	}
+
+	private CompiledUriTemplate(Builder builder) {
+
+		this.parts = builder.parts.toArray(new Part[builder.parts.size()]);
+		this.names = Collections.unmodifiableList(new ArrayList<>(builder.names));
+		this.variables = Collections.unmodifiableList(new ArrayList<>(builder.variables));
+		this.baseUri = builder.baseUri;
+		this.expansionSize = builder.expansionSize;
+	}
+
+	/**
+	 * Compiles the given template. Braces not forming a valid expression are considered part of the literal.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @return
+	 */
+	static CompiledUriTemplate compile(String template) {
+
+		Assert.notNull(template, "Template must not be null!");
+
+		if (template.indexOf('{') < 0) {
+			return new CompiledUriTemplate(template);
+		}
+
+		Builder builder = new Builder();
+		int length = template.length();
+		int literalStart = 0;
+		int index = 0;
+
+		while (index < length) {
+
+			int open = template.indexOf('{', index);
+			int close = open < 0 ? -1 : template.indexOf('}', open + 1);
+
+			if (close < 0) {
+				break;
+			}
+
+			if (!builder.expression(template, literalStart, open, close)) {
+				index = open + 1;
+				continue;
+			}
+
+			literalStart = index = close + 1;
+		}
+
+		builder.literal(template, literalStart, length);
+
+		if (builder.baseUri == null) {
+			builder.baseUri = template;
+		}
+
+		return new CompiledUriTemplate(builder);
+	}
+
+	/**
+	 * Returns whether the given candidate contains at least one valid template expression.
+	 *
+	 * @param candidate must not be {@literal null}.
+	 * @return
+	 */
+	static boolean containsExpression(String candidate) {
+
+		int open = candidate.indexOf('{');
+
+		while (open >= 0) {
+
+			int close = candidate.indexOf('}', open + 1);
+
+			if (close < 0) {
+				return false;
+			}
+
+			if (parseExpression(candidate, open + 1, close) != null) {
+				return true;
+			}
+
+			open = candidate.indexOf('{', open + 1);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns a new {@link CompiledUriTemplate} with expressions for the given optional {@link TemplateVariable}s
+	 * appended. Variables combinable with the ones of the last expression are added to it. Required variables are
+	 * ignored as they're expected to be part of the base URI.
+	 *
+	 * @param variables must not be {@literal null}.
+	 * @return
+	 */
+	CompiledUriTemplate append(Collection<TemplateVariable> variables) {
+
+		Assert.notNull(variables, "Template variables must not be null!");
+
+		Builder builder = new Builder(this);
+
+		for (TemplateVariable variable : variables) {
+			if (!variable.isRequired()) {
+				builder.append(variable);
+			}
+		}
+
+		return builder.variables.size() == this.variables.size() ? this : new CompiledUriTemplate(builder);
+	}
+
+	/**
+	 * Returns the template up to the first expression containing an optional variable.
+	 *
+	 * @return
+	 */
+	String getBaseUri() {
+		return baseUri;
+	}
+
+	/**
+	 * Returns all {@link TemplateVariable}s in the order of their declaration.
+	 *
+	 * @return
+	 */
+	List<TemplateVariable> getVariables() {
+		return variables;
+	}
+
+	/**
+	 * Returns whether the template contains any expressions.
+	 *
+	 * @return
+	 */
+	boolean hasExpressions() {
+		return !names.isEmpty();
+	}
+
+	/**
+	 * Expands the template using the given values.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @return
+	 */
+	String expand(Values values) {
+
+		if (parts.length == 1) {
+			return parts[0].expand(values);
+		}
+
+		StringBuilder builder = new StringBuilder(expansionSize);
+		expand(values, builder);
+
+		return builder.toString();
+	}
+
+	/**
+	 * Expands the template using the given values and appends the result to the given {@link StringBuilder}.
+	 *
+	 * @param values must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 */
+	void expand(Values values, StringBuilder builder) {
+
+		boolean query = false;
+
+		for (Part part : parts) {
+			query = part.expand(values, builder, query);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+
+		String rendered = this.rendered;
+
+		if (rendered != null) {
+			return rendered;
+		}
+
+		if (parts.length == 1 && parts[0] instanceof Literal) {
+			rendered = ((Literal) parts[0]).raw;
+		} else {
+
+			StringBuilder builder = new StringBuilder(expansionSize);
+
+			for (Part part : parts) {
+				part.render(builder);
+			}
+
+			rendered = builder.toString();
+		}
+
+		this.rendered = rendered;
+
+		return rendered;
+	}
+
+	/**
+	 * Parses the expression between the given indexes.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param start the index of the first character after the opening brace.
+	 * @param end the index of the closing brace.
+	 * @return the {@link Expression} or {@literal null} if the given range is not a valid expression.
+	 */
+	private static Expression parseExpression(String template, int start, int end) {
+
+		if (start == end) {
+			return null;
+		}
+
+		VariableType type = operatorFor(template.charAt(start));
+
+		if (type == null) {
+			type = PATH_VARIABLE;
+		} else {
+			start++;
+		}
+
+		List<VarSpec> specs = new ArrayList<>();
+		int specStart = start;
+
+		for (int i = start; i <= end; i++) {
+
+			if (i != end && template.charAt(i) != ',') {
+				continue;
+			}
+
+			VarSpec spec = parseVarSpec(template, specStart, i, type);
+
+			if (spec == null) {
+				return null;
+			}
+
+			specs.add(spec);
+			specStart = i + 1;
+		}
+
+		return new Expression(type, specs.toArray(new VarSpec[specs.size()]));
+	}
+
+	private static VarSpec parseVarSpec(String template, int start, int end, VariableType type) {
+
+		int nameEnd = end;
+		boolean explode = false;
+		int prefix = 0;
+
+		if (end > start && template.charAt(end - 1) == '*') {
+
+			explode = true;
+			nameEnd = end - 1;
+
+		} else {
+
+			int colon = template.indexOf(':', start);
+
+			if (colon >= 0 && colon < end) {
+
+				nameEnd = colon;
+
+				if (end - colon < 2 || end - colon > 5) {
+					return null;
+				}
+
+				for (int i = colon + 1; i < end; i++) {
+
+					char c = template.charAt(i);
+
+					if (c < '0' || c > '9') {
+						return null;
+					}
+
+					prefix = prefix * 10 + (c - '0');
+				}
+
+				if (prefix == 0 || prefix > MAX_PREFIX) {
+					return null;
+				}
+			}
+		}
+
+		if (nameEnd == start) {
+			return null;
+		}
+
+		for (int i = start; i < nameEnd; i++) {
+			if (!isVariableCharacter(template.charAt(i))) {
+				return null;
+			}
+		}
+
+		return new VarSpec(new TemplateVariable(template.substring(start, nameEnd), type), explode, prefix);
+	}
+
+	private static VariableType operatorFor(char c) {
+
+		switch (c) {
+			case '+':
+				return RESERVED_STRING;
+			case '#':
+				return FRAGMENT;
+			case '.':
+				return DOT;
+			case '/':
+				return SEGMENT;
+			case ';':
+				return PATH_STYLE_PARAMETER;
+			case '?':
+				return REQUEST_PARAM;
+			case '&':
+				return REQUEST_PARAM_CONTINUED;
+			default:
+				return null;
+		}
+	}
+
+	private static boolean isVariableCharacter(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == '.' || c == '%';
+	}
+
+	private static boolean isUnreserved(char c) {
+		return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_'
+				|| c == '~';
+	}
+
+	private static boolean isReserved(char c) {
+
+		switch (c) {
+			case ':':
+			case '/':
+			case '?':
+			case '#':
+			case '[':
+			case ']':
+			case '@':
+			case '!':
+			case '$':
+			case '&':
+			case '\'':
+			case '(':
+			case ')':
+			case '*':
+			case '+':
+			case ',':
+			case ';':
+			case '=':
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private static boolean isHex(char c) {
+		return c >= '0' && c <= '9' || c >= 'A' && c <= 'F' || c >= 'a' && c <= 'f';
+	}
+
+	private static boolean isPercentEncoded(CharSequence source, int index) {
+
+		return source.charAt(index) == '%' && index + 2 < source.length() //
+				&& isHex(source.charAt(index + 1)) && isHex(source.charAt(index + 2));
+	}
+
+	/**
+	 * Appends the given value to the given {@link StringBuilder}, percent-encoding all characters not allowed.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param encoding the {@link Encoding} defining the characters to keep, must not be {@literal null}.
+	 * @param builder must not be {@literal null}.
+	 */
+	private static void encode(String value, Encoding encoding, StringBuilder builder) {
+
+		int length = value.length();
+		int index = 0;
+
+		while (index < length && encoding.isAllowed(value, index)) {
+			index++;
+		}
+
+		if (index == length) {
+			builder.append(value);
+			return;
+		}
+
+		builder.append(value, 0, index);
+
+		while (index < length) {
+
+			if (encoding.isAllowed(value, index)) {
+				builder.append(value.charAt(index++));
+				continue;
+			}
+
+			char c = value.charAt(index);
+
+			if (c < 0x80) {
+				appendEncoded((byte) c, builder);
+				index++;
+				continue;
+			}
+
+			int end = Character.isHighSurrogate(c) && index + 1 < length ? index + 2 : index + 1;
+
+			for (byte b : value.substring(index, end).getBytes(StandardCharsets.UTF_8)) {
+				appendEncoded(b, builder);
+			}
+
+			index = end;
+		}
+	}
+
+	private static void appendEncoded(byte b, StringBuilder builder) {
+		builder.append('%').append(HEX[(b >> 4) & 0xF]).append(HEX[b & 0xF]);
+	}
+
+	private static String encode(String value, Encoding encoding) {
+
+		StringBuilder builder = new StringBuilder(value.length());
+		encode(value, encoding, builder);
+
+		return builder.length() == value.length() ? value : builder.toString();
+	}
+
+	/**
+	 * The characters to keep when expanding a value, all others get percent-encoded.
+	 */
+	private enum Encoding {
+
+		/**
+		 * Unreserved characters only, as defined by RFC 6570 for most expression types.
+		 */
+		UNRESERVED,
+
+		/**
+		 * Unreserved and reserved characters as well as percent-encoded triplets, as defined by RFC 6570 for reserved
+		 * ({@code +}) and fragment ({@code #}) expansion.
+		 */
+		RESERVED,
+
+		/**
+		 * Unreserved characters as well as {@code /}, {@code :} and {@code @}, as used for simple expansion within the path
+		 * so that values like {@code a/b} keep expanding into multiple path segments. Sub-delimiters like {@code ,} are
+		 * still encoded so that they can be told apart from the separators of composite values.
+		 */
+		PATH;
+
+		boolean isAllowed(CharSequence source, int index) {
+
+			char c = source.charAt(index);
+
+			if (isUnreserved(c)) {
+				return true;
+			}
+
+			switch (this) {
+				case RESERVED:
+					return isReserved(c) || isPercentEncoded(source, index);
+				case PATH:
+					return c == '/' || c == ':' || c == '@';
+				default:
+					return false;
+			}
+		}
+	}
+
+	/**
+	 * Source of the values to expand a template with.
+	 */
+	interface Values {
+
+		/**
+		 * Returns the value for the variable with the given name.
+		 *
+		 * @param index the index of the variable name in the order of their first declaration.
+		 * @param name the name of the variable.
+		 * @return can be {@literal null}.
+		 */
+		Object get(int index, String name);
+
+		/**
+		 * Returns {@link Values} applying the given parameters in the order of the variables declared.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		static Values of(Object... parameters) {
+			return (index, name) -> index < parameters.length ? parameters[index] : null;
+		}
+
+		/**
+		 * Returns {@link Values} looking up the given parameters by variable name.
+		 *
+		 * @param parameters must not be {@literal null}.
+		 * @return
+		 */
+		static Values of(Map<String, ?> parameters) {
+			return (index, name) -> parameters.get(name);
+		}
+	}
+
+	private static abstract class Part implements Serializable {
+
+		private static final long serialVersionUID = 3475146329364437047L;
+
+		/**
+		 * Expands the part into the given {@link StringBuilder}.
+		 *
+		 * @param values the values to expand variables with.
+		 * @param builder the target.
+		 * @param query whether the URI expanded so far contains a query.
+		 * @return whether the URI expanded so far contains a query after the part was expanded.
+		 */
+		abstract boolean expand(Values values, StringBuilder builder, boolean query);
+
+		/**
+		 * Expands a template only consisting of the current part.
+		 *
+		 * @param values the values to expand variables with.
+		 * @return
+		 */
+		String expand(Values values) {
+
+			StringBuilder builder = new StringBuilder();
+			expand(values, builder, false);
+
+			return builder.toString();
+		}
+
+		/**
+		 * Renders the template source of the part into the given {@link StringBuilder}.
+		 *
+		 * @param builder the target.
+		 */
+		abstract void render(StringBuilder builder);
+	}
+
+	private static final class Literal extends Part {
+
+		private static final long serialVersionUID = -3291305497226328707L;
+
+		private final String raw;
+		private final String encoded;
+		private final boolean query;
+
+		Literal(String raw) {
+
+			this.raw = raw;
+			this.encoded = encode(raw, Encoding.RESERVED);
+			this.query = raw.indexOf('?') >= 0;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(org.springframework.hateoas.CompiledUriTemplate.Values, java.lang.StringBuilder, boolean)
+		 */
+		@Override
+		boolean expand(Values values, StringBuilder builder, boolean query) {
+
+			builder.append(encoded);
+
+			return query || this.query;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(org.springframework.hateoas.CompiledUriTemplate.Values)
+		 */
+		@Override
+		String expand(Values values) {
+			return encoded;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#render(java.lang.StringBuilder)
+		 */
+		@Override
+		void render(StringBuilder builder) {
+			builder.append(raw);
+		}
+	}
+
+	private static final class VarSpec implements Serializable {
+
+		private static final long serialVersionUID = 2143580290812651522L;
+
+		private final TemplateVariable variable;
+		private final String name;
+		private final boolean explode;
+		private final int prefix;
+		private int index;
+
+		VarSpec(TemplateVariable variable, boolean explode, int prefix) {
+
+			this.variable = variable;
+			this.name = variable.getName();
+			this.explode = explode;
+			this.prefix = prefix;
+		}
+
+		void render(StringBuilder builder) {
+
+			builder.append(name);
+
+			if (explode) {
+				builder.append('*');
+			} else if (prefix > 0) {
+				builder.append(':').append(prefix);
+			}
+		}
+	}
+
+	private static final class Expression extends Part {
+
+		private static final long serialVersionUID = 4963596318620329416L;
+
+		private final VariableType operator;
+		private final VarSpec[] specs;
+
+		private final char first;
+		private final char separator;
+		private final boolean named;
+		private final boolean equalsIfEmpty;
+		private final Encoding encoding;
+		private final boolean query;
+
+		Expression(VariableType operator, VarSpec... specs) {
+
+			this.operator = operator;
+			this.specs = specs;
+			this.query = operator == REQUEST_PARAM || operator == REQUEST_PARAM_CONTINUED;
+			this.named = query || operator == PATH_STYLE_PARAMETER;
+			this.equalsIfEmpty = query;
+			this.encoding = operator == RESERVED_STRING || operator == FRAGMENT ? Encoding.RESERVED : Encoding.UNRESERVED;
+
+			switch (operator) {
+				case DOT:
+					this.first = '.';
+					this.separator = '.';
+					break;
+				case SEGMENT:
+					this.first = '/';
+					this.separator = '/';
+					break;
+				case PATH_STYLE_PARAMETER:
+					this.first = ';';
+					this.separator = ';';
+					break;
+				case REQUEST_PARAM:
+				case REQUEST_PARAM_CONTINUED:
+					this.first = '?';
+					this.separator = '&';
+					break;
+				case FRAGMENT:
+					this.first = '#';
+					this.separator = ',';
+					break;
+				default:
+					this.first = 0;
+					this.separator = ',';
+			}
+		}
+
+		/**
+		 * Returns a new {@link Expression} with the given {@link VarSpec} added.
+		 *
+		 * @param spec must not be {@literal null}.
+		 * @return
+		 */
+		Expression with(VarSpec spec) {
+
+			VarSpec[] specs = Arrays.copyOf(this.specs, this.specs.length + 1);
+			specs[this.specs.length] = spec;
+
+			return new Expression(operator, specs);
+		}
+
+		boolean isOptional() {
+
+			for (VarSpec spec : specs) {
+				if (!spec.variable.isRequired()) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#expand(org.springframework.hateoas.CompiledUriTemplate.Values, java.lang.StringBuilder, boolean)
+		 */
+		@Override
+		boolean expand(Values values, StringBuilder builder, boolean query) {
+
+			boolean empty = true;
+			Encoding encoding = !query && operator == PATH_VARIABLE ? Encoding.PATH : this.encoding;
+
+			for (VarSpec spec : specs) {
+
+				Object value = values.get(spec.index, spec.name);
+
+				if (isUndefined(value)) {
+
+					if (spec.variable.isRequired()) {
+						throw new IllegalArgumentException(
+								String.format("Template variable %s is required but no value was given!", spec.name));
+					}
+
+					continue;
+				}
+
+				if (!empty) {
+					builder.append(separator);
+				} else if (this.query) {
+					builder.append(query ? '&' : '?');
+				} else if (first != 0) {
+					builder.append(first);
+				}
+
+				empty = false;
+
+				if (value instanceof Map) {
+					appendMap(spec, (Map<?, ?>) value, encoding, builder);
+				} else if (value instanceof Collection) {
+					appendList(spec, ((Collection<?>) value).iterator(), encoding, builder);
+				} else if (value.getClass().isArray()) {
+					appendList(spec, Arrays.asList(ObjectUtils.toObjectArray(value)).iterator(), encoding, builder);
+				} else {
+					appendString(spec, value.toString(), encoding, builder);
+				}
+			}
+
+			return query || this.query && !empty;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.CompiledUriTemplate.Part#render(java.lang.StringBuilder)
+		 */
+		@Override
+		void render(StringBuilder builder) {
+
+			builder.append('{').append(operator.toString());
+
+			for (int i = 0; i < specs.length; i++) {
+
+				if (i > 0) {
+					builder.append(',');
+				}
+
+				specs[i].render(builder);
+			}
+
+			builder.append('}');
+		}
+
+		private void appendString(VarSpec spec, String value, Encoding encoding, StringBuilder builder) {
+
+			if (named) {
+				appendName(spec.name, value.isEmpty(), builder);
+			}
+
+			if (spec.prefix > 0 && value.length() > spec.prefix) {
+
+				int codePoints = value.codePointCount(0, value.length());
+				value = value.substring(0, value.offsetByCodePoints(0, Math.min(spec.prefix, codePoints)));
+			}
+
+			encode(value, encoding, builder);
+		}
+
+		private void appendList(VarSpec spec, Iterator<?> values, Encoding encoding, StringBuilder builder) {
+
+			boolean first = true;
+
+			while (values.hasNext()) {
+
+				Object value = values.next();
+
+				if (value == null) {
+					continue;
+				}
+
+				String string = value.toString();
+
+				if (spec.explode) {
+
+					if (!first) {
+						builder.append(separator);
+					}
+
+					if (named) {
+						appendName(spec.name, string.isEmpty(), builder);
+					}
+
+				} else if (first) {
+
+					if (named) {
+						builder.append(spec.name).append('=');
+					}
+
+				} else {
+					builder.append(',');
+				}
+
+				first = false;
+				encode(string, encoding, builder);
+			}
+		}
+
+		private void appendMap(VarSpec spec, Map<?, ?> values, Encoding encoding, StringBuilder builder) {
+
+			boolean first = true;
+
+			for (Entry<?, ?> entry : values.entrySet()) {
+
+				if (entry.getKey() == null || entry.getValue() == null) {
+					continue;
+				}
+
+				String key = entry.getKey().toString();
+				String value = entry.getValue().toString();
+
+				if (spec.explode) {
+
+					if (!first) {
+						builder.append(separator);
+					}
+
+					encode(key, encoding, builder);
+
+					if (!named || !value.isEmpty() || equalsIfEmpty) {
+						builder.append('=');
+					}
+
+				} else {
+
+					if (first && named) {
+						builder.append(spec.name).append('=');
+					} else if (!first) {
+						builder.append(',');
+					}
+
+					encode(key, encoding, builder);
+					builder.append(',');
+				}
+
+				first = false;
+				encode(value, encoding, builder);
+			}
+		}
+
+		private void appendName(String name, boolean emptyValue, StringBuilder builder) {
+
+			builder.append(name);
+
+			if (!emptyValue || equalsIfEmpty) {
+				builder.append('=');
+			}
+		}
+
+		private static boolean isUndefined(Object value) {
+
+			if (value == null) {
+				return true;
+			}
+
+			if (value instanceof Collection) {
+				return ((Collection<?>) value).isEmpty();
+			}
+
+			if (value instanceof Map) {
+				return ((Map<?, ?>) value).isEmpty();
+			}
+
+			return value.getClass().isArray() && ObjectUtils.isEmpty(ObjectUtils.toObjectArray(value));
+		}
+	}
+
+	/**
+	 * Collects the parts of a template to be compiled.
+	 */
+	private static class Builder {
+
+		private final List<Part> parts;
+		private final List<String> names;
+		private final List<TemplateVariable> variables;
+
+		private String baseUri;
+		private boolean query;
+		private int expansionSize;
+
+		Builder() {
+
+			this.parts = new ArrayList<>();
+			this.names = new ArrayList<>();
+			this.variables = new ArrayList<>();
+		}
+
+		Builder(CompiledUriTemplate template) {
+
+			this.parts = new ArrayList<>(Arrays.asList(template.parts));
+			this.names = new ArrayList<>(template.names);
+			this.variables = new ArrayList<>(template.variables);
+			this.baseUri = template.baseUri;
+			this.expansionSize = template.expansionSize;
+
+			for (Part part : template.parts) {
+				this.query |= part instanceof Literal && ((Literal) part).query
+						|| part instanceof Expression && ((Expression) part).query;
+			}
+		}
+
+		void literal(String template, int start, int end) {
+
+			if (start == end) {
+				return;
+			}
+
+			Literal literal = new Literal(template.substring(start, end));
+
+			this.parts.add(literal);
+			this.query |= literal.query;
+			this.expansionSize += end - start;
+		}
+
+		/**
+		 * Adds the expression between the given braces and the literal preceding it.
+		 *
+		 * @return whether the given range contained a valid expression.
+		 */
+		boolean expression(String template, int literalStart, int open, int close) {
+
+			Expression parsed = parseExpression(template, open + 1, close);
+
+			if (parsed == null) {
+				return false;
+			}
+
+			literal(template, literalStart, open);
+
+			for (VarSpec spec : parsed.specs) {
+				register(spec);
+			}
+
+			Expression expression = parsed.operator == adapt(parsed.operator) //
+					? parsed //
+					: new Expression(adapt(parsed.operator), parsed.specs);
+
+			if (baseUri == null && expression.isOptional()) {
+				baseUri = template.substring(0, open);
+			}
+
+			add(expression);
+
+			return true;
+		}
+
+		void append(TemplateVariable variable) {
+
+			VarSpec spec = register(new VarSpec(variable, false, 0));
+			Part last = parts.isEmpty() ? null : parts.get(parts.size() - 1);
+
+			if (last instanceof Expression && ((Expression) last).operator.canBeCombinedWith(variable.getType())) {
+
+				parts.set(parts.size() - 1, ((Expression) last).with(spec));
+				expansionSize += 16;
+
+				return;
+			}
+
+			add(new Expression(adapt(variable.getType()), spec));
+		}
+
+		private void add(Expression expression) {
+
+			parts.add(expression);
+
+			this.query |= expression.query;
+			this.expansionSize += 16 * expression.specs.length;
+		}
+
+		private VarSpec register(VarSpec spec) {
+
+			int index = names.indexOf(spec.name);
+
+			if (index < 0) {
+				index = names.size();
+				names.add(spec.name);
+			}
+
+			spec.index = index;
+			variables.add(spec.variable);
+
+			return spec;
+		}
+
+		/**
+		 * Renders request parameter expressions following a query as continued ones.
+		 *
+		 * @param operator must not be {@literal null}.
+		 * @return
+		 */
+		private VariableType adapt(VariableType operator) {
+			return operator == REQUEST_PARAM && query ? REQUEST_PARAM_CONTINUED : operator;
+		}
+	}
+}
@@ -21,14 +21,12 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.experimental.Wither;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.xml.bind.annotation.XmlAttribute;
 import javax.xml.bind.annotation.XmlTransient;
@@ -56,7 +54,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 public class Link implements Serializable {
 
 	private static final long serialVersionUID = -9037755944661782121L;
-	private static final String URI_PATTERN = "(https?|ftp|file)://[-a-zA-Z0-9+&@#/%?=~_|!:,.;]*[-a-zA-Z0-9+&@#/%=~_|]";
 
 	public static final String ATOM_NAMESPACE = "http://www.w3.org/2005/Atom";
 
@@ -87,13 +84,26 @@ public class Link implements Serializable {
 	}
 
 	/**
-	 * Creates a new {@link Link} to the given URI with the given rel.
+	 * Creates a new {@link Link} to the given URI with the given rel. The {@link UriTemplate} for hrefs not containing
+	 * any template expression is only created on demand.
 	 * 
 	 * @param href must not be {@literal null} or empty.
 	 * @param rel must not be {@literal null} or empty.
 	 */
 	public Link(String href, String rel) {
-		this(new UriTemplate(href), rel);
+
+		Assert.hasText(href, "Href must not be null or empty!");
+		Assert.hasText(rel, "Rel must not be null or empty!");
+
+		if (href.indexOf('{') < 0) {
+			this.href = href;
+		} else {
+			this.template = UriTemplate.of(href);
+			this.href = template.toString();
+		}
+
+		this.rel = rel;
+		this.affordances = Collections.emptyList();
 	}
 
 	/**
@@ -110,7 +120,7 @@ public class Link implements Serializable {
 		this.template = template;
 		this.href = template.toString();
 		this.rel = rel;
-		this.affordances = new ArrayList<Affordance>();
+		this.affordances = Collections.emptyList();
 	}
 
 	public Link(String href, String rel, List<Affordance> affordances) {
@@ -256,42 +266,48 @@ public class Link implements Serializable {
 	private UriTemplate getUriTemplate() {
 
 		if (template == null) {
-			this.template = new UriTemplate(href);
+			this.template = UriTemplate.of(href);
 		}
 
 		return template;
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see java.lang.Object#toString()
+	/**
+	 * Appends the RFC 8288 representation of the link to the given {@link Appendable}.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return the given target.
+	 * @throws IOException in case the given {@link Appendable} fails to append.
+	 * @since 1.0
 	 */
-	@Override
-	public String toString() {
+	public <T extends Appendable> T appendTo(T target) throws IOException {
 
-		String linkString = String.format("<%s>;rel=\"%s\"", href, rel);
+		Assert.notNull(target, "Target must not be null!");
 
-		if (hreflang != null) {
-			linkString += ";hreflang=\"" + hreflang + "\"";
-		}
+		target.append('<').append(href).append('>');
 
-		if (media != null) {
-			linkString += ";media=\"" + media + "\"";
-		}
+		appendAttribute(target, "rel", rel);
+		appendAttribute(target, "hreflang", hreflang);
+		appendAttribute(target, "media", media);
+		appendAttribute(target, "title", title);
+		appendAttribute(target, "type", type);
+		appendAttribute(target, "deprecation", deprecation);
 
-		if (title != null) {
-			linkString += ";title=\"" + title + "\"";
-		}
+		return target;
+	}
 
-		if (type != null) {
-			linkString += ";type=\"" + type + "\"";
-		}
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
 
-		if (deprecation != null) {
-			linkString += ";deprecation=\"" + deprecation + "\"";
+		try {
+			return appendTo(new StringBuilder(href.length() + rel.length() + 10)).toString();
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
 		}
-
-		return linkString;
 	}
 
 	/**
@@ -309,67 +325,63 @@ public class Link implements Serializable {
 			return null;
 		}
 
-		Pattern uriAndAttributes = Pattern.compile("<(.*)>;(.*)");
-		Matcher matcher = uriAndAttributes.matcher(element);
-
-		if (matcher.find()) {
-
-			Map<String, String> attributes = getAttributeMap(matcher.group(2));
-
-			if (!attributes.containsKey("rel")) {
-				throw new IllegalArgumentException("Link does not provide a rel attribute!");
-			}
-
-			Link link = new Link(matcher.group(1), attributes.get("rel"));
-
-			if (attributes.containsKey("hreflang")) {
-				link = link.withHreflang(attributes.get("hreflang"));
-			}
-
-			if (attributes.containsKey("media")) {
-				link = link.withMedia(attributes.get("media"));
-			}
-
-			if (attributes.containsKey("title")) {
-				link = link.withTitle(attributes.get("title"));
-			}
+		return LinkHeaderParser.parseLink(element);
+	}
 
-			if (attributes.containsKey("type")) {
-				link = link.withType(attributes.get("type"));
-			}
+	/**
+	 * Creates a new {@link Link} with the given attributes.
+	 *
+	 * @param href must not be {@literal null} or empty.
+	 * @param rel must not be {@literal null} or empty.
+	 * @param hreflang can be {@literal null}.
+	 * @param media can be {@literal null}.
+	 * @param title can be {@literal null}.
+	 * @param type can be {@literal null}.
+	 * @param deprecation can be {@literal null}.
+	 * @return
+	 */
+	static Link of(String href, String rel, String hreflang, String media, String title, String type,
+			String deprecation) {
 
-			if (attributes.containsKey("deprecation")) {
-				link = link.withDeprecation(attributes.get("deprecation"));
-			}
+		Link link = new Link(href, rel);
 
-			return link;
+		link.hreflang = hreflang;
+		link.media = media;
+		link.title = title;
+		link.type = type;
+		link.deprecation = deprecation;
 
-		} else {
-			throw new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", element));
-		}
+		return link;
 	}
 
 	/**
-	 * Parses the links attributes from the given source {@link String}.
-	 * 
-	 * @param source
-	 * @return
+	 * Appends the given attribute as quoted string if a value is present.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param name must not be {@literal null}.
+	 * @param value can be {@literal null}.
+	 * @throws IOException
 	 */
-	private static Map<String, String> getAttributeMap(String source) {
+	private static void appendAttribute(Appendable target, String name, String value) throws IOException {
 
-		if (!StringUtils.hasText(source)) {
-			return Collections.emptyMap();
+		if (value == null) {
+			return;
 		}
 
-		Map<String, String> attributes = new HashMap<String, String>();
-		Pattern keyAndValue = Pattern
-				.compile("(\\w+)=\"(\\p{Lower}[\\p{Lower}\\p{Digit}\\.\\-\\s]*|" + URI_PATTERN + ")\"");
-		Matcher matcher = keyAndValue.matcher(source);
+		target.append(';').append(name).append("=\"");
+
+		int start = 0;
 
-		while (matcher.find()) {
-			attributes.put(matcher.group(1), matcher.group(2));
+		for (int i = 0; i < value.length(); i++) {
+
+			char c = value.charAt(i);
+
+			if (c == '"' || c == '\\') {
+				target.append(value, start, i).append('\\');
+				start = i;
+			}
 		}
 
-		return attributes;
+		target.append(value, start, value.length()).append('"');
 	}
 }
@@ -15,11 +15,18 @@
  */
 package org.springframework.hateoas;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.Plugin;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 /**
  * Interface to allow discovering links by relation type from some source.
@@ -63,4 +70,49 @@ public interface LinkDiscoverer extends Plugin<MediaType> {
 	 * @return
 	 */
 	List<Link> findLinksWithRel(String rel, InputStream representation);
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link String} representation. Implementations
+	 * are encouraged to override this method to inspect the representation only once for all relation types.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return a {@link Map} with an entry for each of the given relation types, in the order they were given, will never
+	 *         be {@literal null}.
+	 * @since 1.0
+	 */
+	default Map<String, List<Link>> findLinksWithRels(Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relations must not be null!");
+
+		Map<String, List<Link>> result = new LinkedHashMap<>(rels.size());
+
+		for (String rel : rels) {
+			result.put(rel, findLinksWithRel(rel, representation));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns all links with the given relation types found in the given {@link InputStream} representation.
+	 * Implementations are encouraged to override this method to inspect the representation only once for all relation
+	 * types.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null} or empty.
+	 * @return a {@link Map} with an entry for each of the given relation types, in the order they were given, will never
+	 *         be {@literal null}.
+	 * @since 1.0
+	 */
+	default Map<String, List<Link>> findLinksWithRels(Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try {
+			return findLinksWithRels(rels, StreamUtils.copyToString(representation, StandardCharsets.UTF_8));
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
 }
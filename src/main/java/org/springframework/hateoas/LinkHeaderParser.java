@@ -0,0 +1,355 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * Parses {@link Link}s from the value of a {@literal Link} header as defined in RFC 8288 in a single pass over the
+ * source. Link parameter values may be given as quoted strings (including escaped characters and commas) or as tokens.
+ * Parameter names are matched case-insensitively. Parameters other than the ones supported by {@link Link} are ignored
+ * and only the first occurrence of a parameter is considered.
+ *
+ * @see https://tools.ietf.org/html/rfc8288#section-3
+ */
+final class LinkHeaderParser {
+
+	private final String source;
+	private final boolean lenient;
+	private final int length;
+
+	private int index;
+
+	private LinkHeaderParser(String source, boolean lenient) {
+
+		this.source = source;
+		this.lenient = lenient;
+		this.length = source.length();
+	}
+
+	/**
+	 * Parses the first {@link Link} from the given source.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case the source is not a valid link value or doesn't provide a relation.
+	 */
+	static Link parseLink(String source) {
+
+		Assert.notNull(source, "Source must not be null!");
+
+		Link link = new LinkHeaderParser(source, false).next();
+
+		if (link == null) {
+			throw invalid(source);
+		}
+
+		return link;
+	}
+
+	/**
+	 * Parses all {@link Link}s from the given comma separated source. Empty and malformed link values are skipped.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException in case a link value doesn't provide a relation.
+	 */
+	static List<Link> parseLinks(String source) {
+
+		Assert.notNull(source, "Source must not be null!");
+
+		LinkHeaderParser parser = new LinkHeaderParser(source, true);
+		List<Link> links = null;
+		Link link;
+
+		while ((link = parser.next()) != null) {
+
+			if (links == null) {
+				links = new ArrayList<>();
+			}
+
+			links.add(link);
+		}
+
+		return links == null ? Collections.emptyList() : links;
+	}
+
+	/**
+	 * Reads the next link value.
+	 *
+	 * @return the {@link Link} or {@literal null} if the source is exhausted.
+	 */
+	private Link next() {
+
+		while (true) {
+
+			skipWhitespaceAnd(',');
+
+			if (index >= length) {
+				return null;
+			}
+
+			int hrefEnd = source.charAt(index) == '<' ? source.indexOf('>', index + 1) : -1;
+
+			if (hrefEnd < 0) {
+
+				if (!lenient) {
+					throw invalid(source);
+				}
+
+				skipLinkValue();
+				continue;
+			}
+
+			String href = source.substring(index + 1, hrefEnd);
+			index = hrefEnd + 1;
+
+			return readParameters(href);
+		}
+	}
+
+	/**
+	 * Reads the parameters following the target of a link value and creates the {@link Link}.
+	 *
+	 * @param href must not be {@literal null}.
+	 * @return
+	 */
+	private Link readParameters(String href) {
+
+		String rel = null, hreflang = null, media = null, title = null, type = null, deprecation = null;
+
+		while (true) {
+
+			skipWhitespace();
+
+			if (index >= length || source.charAt(index) == ',') {
+				break;
+			}
+
+			if (source.charAt(index) != ';') {
+
+				if (!lenient) {
+					throw invalid(source);
+				}
+
+				skipLinkValue();
+				break;
+			}
+
+			index++;
+			skipWhitespace();
+
+			int nameStart = index;
+
+			while (index < length && isTokenCharacter(source.charAt(index))) {
+				index++;
+			}
+
+			String name = source.substring(nameStart, index);
+			String value = readValue();
+
+			if (value == null) {
+				continue;
+			}
+
+			if (rel == null && "rel".equalsIgnoreCase(name)) {
+				rel = value;
+			} else if (hreflang == null && "hreflang".equalsIgnoreCase(name)) {
+				hreflang = value;
+			} else if (media == null && "media".equalsIgnoreCase(name)) {
+				media = value;
+			} else if (title == null && "title".equalsIgnoreCase(name)) {
+				title = value;
+			} else if (type == null && "type".equalsIgnoreCase(name)) {
+				type = value;
+			} else if (deprecation == null && "deprecation".equalsIgnoreCase(name)) {
+				deprecation = value;
+			}
+		}
+
+		if (rel == null) {
+			throw new IllegalArgumentException("Link does not provide a rel attribute!");
+		}
+
+		return Link.of(href, rel, hreflang, media, title, type, deprecation);
+	}
+
+	/**
+	 * Reads the value of a parameter if the current position is at an equals sign.
+	 *
+	 * @return the value or {@literal null} if the parameter doesn't have a value.
+	 */
+	private String readValue() {
+
+		skipWhitespace();
+
+		if (index >= length || source.charAt(index) != '=') {
+			return null;
+		}
+
+		index++;
+		skipWhitespace();
+
+		if (index < length && source.charAt(index) == '"') {
+			return readQuotedString();
+		}
+
+		int start = index;
+
+		while (index < length && !isValueDelimiter(source.charAt(index))) {
+			index++;
+		}
+
+		return source.substring(start, index);
+	}
+
+	private String readQuotedString() {
+
+		int start = ++index;
+		StringBuilder builder = null;
+
+		while (index < length) {
+
+			char c = source.charAt(index);
+
+			if (c == '"') {
+
+				String value = builder == null //
+						? source.substring(start, index) //
+						: builder.append(source, start, index).toString();
+
+				index++;
+
+				return value;
+			}
+
+			if (c == '\\' && index + 1 < length) {
+
+				if (builder == null) {
+					builder = new StringBuilder();
+				}
+
+				builder.append(source, start, index);
+				start = ++index;
+			}
+
+			index++;
+		}
+
+		if (!lenient) {
+			throw invalid(source);
+		}
+
+		return builder == null ? source.substring(start) : builder.append(source, start, length).toString();
+	}
+
+	/**
+	 * Advances to the comma separating the current link value from the next one, skipping quoted strings and link
+	 * targets.
+	 */
+	private void skipLinkValue() {
+
+		while (index < length) {
+
+			char c = source.charAt(index);
+
+			if (c == ',') {
+				return;
+			}
+
+			if (c == '"') {
+				readQuotedString();
+				continue;
+			}
+
+			if (c == '<') {
+
+				int end = source.indexOf('>', index + 1);
+				index = end < 0 ? length : end + 1;
+				continue;
+			}
+
+			index++;
+		}
+	}
+
+	private void skipWhitespace() {
+
+		while (index < length && isWhitespace(source.charAt(index))) {
+			index++;
+		}
+	}
+
+	private void skipWhitespaceAnd(char separator) {
+
+		while (index < length && (isWhitespace(source.charAt(index)) || source.charAt(index) == separator)) {
+			index++;
+		}
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+	}
+
+	/**
+	 * Returns whether the given character ends an unquoted parameter value. More lenient than the token grammar to also
+	 * accept unquoted URIs as they're commonly used for extension relation types.
+	 *
+	 * @param c
+	 * @return
+	 */
+	private static boolean isValueDelimiter(char c) {
+		return c == ';' || c == ',' || isWhitespace(c);
+	}
+
+	private static boolean isTokenCharacter(char c) {
+
+		if (c <= ' ' || c >= 127) {
+			return false;
+		}
+
+		switch (c) {
+			case '"':
+			case '(':
+			case ')':
+			case ',':
+			case '/':
+			case ':':
+			case ';':
+			case '<':
+			case '=':
+			case '>':
+			case '?':
+			case '@':
+			case '[':
+			case '\\':
+			case ']':
+			case '{':
+			case '}':
+				return false;
+			default:
+				return true;
+		}
+	}
+
+	private static IllegalArgumentException invalid(String source) {
+		return new IllegalArgumentException(String.format("Given link header %s is not RFC5988 compliant!", source));
+	}
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable index of {@link Link}s by their relation type, keeping the order of the links per relation. Lists with only
+ * a few links are not worth indexing as scanning them is cheaper than building and probing the index.
+ *
+ * @see #isWorthIndexing(List)
+ */
+final class LinkIndex {
+
+	private static final int THRESHOLD = 8;
+
+	private final Map<String, List<Link>> links;
+	private final int version;
+
+	/**
+	 * Creates a new {@link LinkIndex} for the given {@link Link}s.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param version the version of the source the index was built for.
+	 */
+	LinkIndex(List<Link> links, int version) {
+
+		Map<String, List<Link>> index = new HashMap<>();
+
+		for (Link link : links) {
+			index.computeIfAbsent(link.getRel(), key -> new ArrayList<>(1)).add(link);
+		}
+
+		this.links = index;
+		this.version = version;
+	}
+
+	/**
+	 * Returns whether the given {@link List} of {@link Link}s is large enough to be worth indexing.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isWorthIndexing(List<Link> links) {
+		return links.size() > THRESHOLD;
+	}
+
+	/**
+	 * Returns whether the index was built for the given version of its source.
+	 *
+	 * @param version
+	 * @return
+	 */
+	boolean isCurrent(int version) {
+		return this.version == version;
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given relation type.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	Optional<Link> getLink(String rel) {
+
+		List<Link> result = links.get(rel);
+
+		return result == null ? Optional.empty() : Optional.of(result.get(0));
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation type.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return an unmodifiable {@link List}, never {@literal null}.
+	 */
+	List<Link> getLinks(String rel) {
+
+		List<Link> result = links.get(rel);
+
+		return result == null ? Collections.emptyList() : Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Returns the first {@link Link} with the given relation type by scanning the given {@link List}.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	static Optional<Link> findLink(List<Link> links, String rel) {
+
+		for (int i = 0; i < links.size(); i++) {
+
+			Link link = links.get(i);
+
+			if (link.getRel().equals(rel)) {
+				return Optional.of(link);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation type by scanning the given {@link List}.
+	 *
+	 * @param links must not be {@literal null}.
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	static List<Link> findLinks(List<Link> links, String rel) {
+
+		List<Link> result = new ArrayList<>();
+
+		for (int i = 0; i < links.size(); i++) {
+
+			Link link = links.get(i);
+
+			if (link.getRel().equals(rel)) {
+				result.add(link);
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
+
+/**
+ * Insertion ordered {@link List} of {@link Link}s that lazily builds a {@link LinkIndex} to look up links by relation.
+ * The index is discarded on every structural modification as well as on {@link #set(int, Link)}, including the ones
+ * made through {@link #subList(int, int)} views, so that the list can still be handed out to callers and data binding
+ * libraries that add elements to it directly.
+ *
+ * @see ResourceSupport
+ */
+class LinkList extends ArrayList<Link> {
+
+	private static final long serialVersionUID = -3853306361402416553L;
+
+	private transient int replacements;
+	private transient LinkIndex index;
+
+	/**
+	 * Returns the first {@link Link} with the given relation type.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return
+	 */
+	Optional<Link> getLink(String rel) {
+
+		LinkIndex index = getIndex();
+
+		return index == null ? LinkIndex.findLink(this, rel) : index.getLink(rel);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation type.
+	 *
+	 * @param rel can be {@literal null}.
+	 * @return a new {@link List}, never {@literal null}.
+	 */
+	List<Link> getLinks(String rel) {
+
+		LinkIndex index = getIndex();
+
+		return index == null ? LinkIndex.findLinks(this, rel) : new ArrayList<>(index.getLinks(rel));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.ArrayList#set(int, java.lang.Object)
+	 */
+	@Override
+	public Link set(int index, Link element) {
+
+		Link previous = super.set(index, element);
+		invalidateIndex();
+
+		return previous;
+	}
+
+	/**
+	 * Returns a view of the given range that discards the index on {@link List#set(int, Object)}, as
+	 * {@link ArrayList}'s own views write replacements straight to the backing array.
+	 *
+	 * @see java.util.ArrayList#subList(int, int)
+	 */
+	@Override
+	public List<Link> subList(int fromIndex, int toIndex) {
+		return new LinkSubList(super.subList(fromIndex, toIndex));
+	}
+
+	private void invalidateIndex() {
+
+		this.replacements++;
+		this.index = null;
+	}
+
+	private LinkIndex getIndex() {
+
+		if (!LinkIndex.isWorthIndexing(this)) {
+			return null;
+		}
+
+		int version = modCount + replacements;
+		LinkIndex index = this.index;
+
+		if (index == null || !index.isCurrent(version)) {
+			this.index = index = new LinkIndex(this, version);
+		}
+
+		return index;
+	}
+
+	/**
+	 * {@link List} view on a range of the {@link LinkList} invalidating its index on replacements. Structural
+	 * modifications are applied to the {@link LinkList} by the delegate view and thus tracked through its modification
+	 * count.
+	 */
+	private class LinkSubList extends AbstractList<Link> implements RandomAccess {
+
+		private final List<Link> delegate;
+
+		LinkSubList(List<Link> delegate) {
+			this.delegate = delegate;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#get(int)
+		 */
+		@Override
+		public Link get(int index) {
+			return delegate.get(index);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#set(int, java.lang.Object)
+		 */
+		@Override
+		public Link set(int index, Link element) {
+
+			Link previous = delegate.set(index, element);
+			invalidateIndex();
+
+			return previous;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#add(int, java.lang.Object)
+		 */
+		@Override
+		public void add(int index, Link element) {
+
+			delegate.add(index, element);
+			modCount++;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractList#remove(int)
+		 */
+		@Override
+		public Link remove(int index) {
+
+			Link previous = delegate.remove(index);
+			modCount++;
+
+			return previous;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.AbstractCollection#size()
+		 */
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+}
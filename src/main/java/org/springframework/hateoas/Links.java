@@ -15,16 +15,15 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
@@ -35,11 +34,10 @@ import org.springframework.util.StringUtils;
  */
 public class Links implements Iterable<Link> {
 
-	private static final Pattern LINK_HEADER_PATTERN = Pattern.compile("(<[^>]*>(;\\s*\\w+=\"[^\"]*\")+)");
-
 	static final Links NO_LINKS = new Links(Collections.emptyList());
 
 	private final List<Link> links;
+	private LinkIndex index;
 
 	/**
 	 * Creates a new {@link Links} instance from the given {@link Link}s.
@@ -67,8 +65,17 @@ public class Links implements Iterable<Link> {
 	 */
 	public Optional<Link> getLink(String rel) {
 
-		return links.stream() //
-				.filter(link -> link.getRel().equals(rel)).findFirst();
+		if (!LinkIndex.isWorthIndexing(links)) {
+			return LinkIndex.findLink(links, rel);
+		}
+
+		LinkIndex index = this.index;
+
+		if (index == null) {
+			this.index = index = new LinkIndex(links, 0);
+		}
+
+		return index.getLink(rel);
 	}
 
 	/**
@@ -93,10 +100,12 @@ public class Links implements Iterable<Link> {
 	}
 
 	/**
-	 * Creates a {@link Links} instance from the given RFC5988-compatible link format.
+	 * Creates a {@link Links} instance from the given RFC5988-compatible link format. Empty and malformed link values are
+	 * skipped.
 	 * 
 	 * @param source a comma separated list of {@link Link} representations.
 	 * @return the {@link Links} represented by the given {@link String}.
+	 * @throws IllegalArgumentException in case a link value doesn't provide a relation.
 	 */
 	public static Links valueOf(String source) {
 
@@ -104,19 +113,9 @@ public class Links implements Iterable<Link> {
 			return NO_LINKS;
 		}
 
-		Matcher matcher = LINK_HEADER_PATTERN.matcher(source);
-		List<Link> links = new ArrayList<>();
+		List<Link> links = LinkHeaderParser.parseLinks(source);
 
-		while (matcher.find()) {
-
-			Link link = Link.valueOf(matcher.group());
-
-			if (link != null) {
-				links.add(link);
-			}
-		}
-
-		return new Links(links);
+		return links.isEmpty() ? NO_LINKS : new Links(links);
 	}
 
 	/**
@@ -134,7 +133,36 @@ public class Links implements Iterable<Link> {
 	 */
 	@Override
 	public String toString() {
-		return StringUtils.collectionToCommaDelimitedString(links);
+
+		try {
+			return appendTo(new StringBuilder(links.size() * 32)).toString();
+		} catch (IOException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * Appends the RFC 8288 representation of all {@link Link}s, separated by commas, to the given {@link Appendable}.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return the given target.
+	 * @throws IOException in case the given {@link Appendable} fails to append.
+	 * @since 1.0
+	 */
+	public <T extends Appendable> T appendTo(T target) throws IOException {
+
+		Assert.notNull(target, "Target must not be null!");
+
+		for (int i = 0; i < links.size(); i++) {
+
+			if (i > 0) {
+				target.append(',');
+			}
+
+			links.get(i).appendTo(target);
+		}
+
+		return target;
 	}
 
 	/* 
@@ -15,11 +15,9 @@
  */
 package org.springframework.hateoas;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
 
@@ -36,10 +34,10 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class ResourceSupport implements Identifiable<Link> {
 
-	private final List<Link> links;
+	private final LinkList links;
 
 	public ResourceSupport() {
-		this.links = new ArrayList<>();
+		this.links = new LinkList();
 	}
 
 	/**
@@ -125,9 +123,9 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public Optional<Link> getLink(String rel) {
 
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.findFirst();
+		Assert.hasText(rel, "Link relation must not be null or empty!");
+
+		return links.getLink(rel);
 	}
 
 	/**
@@ -150,9 +148,9 @@ public class ResourceSupport implements Identifiable<Link> {
 	 */
 	public List<Link> getLinks(String rel) {
 
-		return links.stream() //
-				.filter(link -> link.hasRel(rel)) //
-				.collect(Collectors.toList());
+		Assert.hasText(rel, "Link relation must not be null or empty!");
+
+		return links.getLinks(rel);
 	}
 
 	/* 
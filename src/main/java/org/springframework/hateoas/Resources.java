@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import javax.xml.bind.annotation.XmlAnyElement;
 import javax.xml.bind.annotation.XmlElementWrapper;
@@ -37,7 +38,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 @XmlRootElement(name = "entities")
 public class Resources<T> extends ResourceSupport implements Iterable<T> {
 
-	private final Collection<T> content;
+	private final List<T> content;
 
 	/**
 	 * Creates an empty {@link Resources} instance.
@@ -105,6 +106,19 @@ public class Resources<T> extends ResourceSupport implements Iterable<T> {
 		return Collections.unmodifiableCollection(content);
 	}
 
+	/**
+	 * Replaces the element at the given position in iteration order with the given one.
+	 * 
+	 * @param index the position of the element to replace.
+	 * @param element the replacement.
+	 * @return the element previously at the given position.
+	 * @throws IndexOutOfBoundsException if the index is out of range.
+	 * @since 1.0
+	 */
+	public T replaceContent(int index, T element) {
+		return content.set(index, element);
+	}
+
 	/* 
 	 * (non-Javadoc)
 	 * @see java.lang.Iterable#iterator()
@@ -147,9 +147,12 @@ public final class TemplateVariable implements Serializable {
 	public enum VariableType {
 
 		PATH_VARIABLE("", false), //
+		RESERVED_STRING("+", false), //
 		REQUEST_PARAM("?", true), //
 		REQUEST_PARAM_CONTINUED("&", true), //
 		SEGMENT("/", true), //
+		PATH_STYLE_PARAMETER(";", true), //
+		DOT(".", true), //
 		FRAGMENT("#", true);
 
 		private static final List<VariableType> COMBINABLE_TYPES = Arrays.asList(REQUEST_PARAM, REQUEST_PARAM_CONTINUED);
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas;
+
+/**
+ * Marker extension of {@link ResourceProcessor} declaring that {@link #process(ResourceSupport)} can be invoked
+ * concurrently. This allows the elements of large {@link Resources} to be processed in parallel if all processors
+ * applying to them are {@link ThreadSafeResourceProcessor}s or {@link BatchResourceProcessor}s.
+ * <p>
+ * Processors might be invoked on threads other than the one handling the request. The request's
+ * {@link org.springframework.web.context.request.RequestAttributes} and
+ * {@link org.springframework.context.i18n.LocaleContext} are bound to those threads while processing, so that e.g.
+ * {@link org.springframework.hateoas.mvc.ControllerLinkBuilder} creates the same absolute links as on the request
+ * thread. Other thread-bound state, like a security context, is not propagated.
+ *
+ * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker#setParallelThreshold(int)
+ * @since 1.0
+ */
+public interface ThreadSafeResourceProcessor<T extends ResourceSupport> extends ResourceProcessor<T> {}
@@ -18,19 +18,15 @@ package org.springframework.hateoas;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
-import org.springframework.hateoas.TemplateVariable.VariableType;
+import org.springframework.hateoas.CompiledUriTemplate.Values;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
-import org.springframework.web.util.UriComponents;
-import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * Custom URI template to support qualified URI template variables.
@@ -41,11 +37,13 @@ import org.springframework.web.util.UriComponentsBuilder;
  */
 public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
-	private static final Pattern VARIABLE_REGEX = Pattern.compile("\\{([\\?\\&#/]?)([\\w\\,]+)\\}");
 	private static final long serialVersionUID = -1007874653930162262L;
+	private static final int CACHE_LIMIT = 1024;
+	private static final Map<String, UriTemplate> CACHE = new ConcurrentReferenceHashMap<>();
 
 	private final TemplateVariables variables;
-	private String baseUri;
+	private final String baseUri;
+	private final CompiledUriTemplate compiled;
 
 	/**
 	 * Creates a new {@link UriTemplate} using the given template string.
@@ -56,30 +54,47 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		Assert.hasText(template, "Template must not be null or empty!");
 
-		Matcher matcher = VARIABLE_REGEX.matcher(template);
-		int baseUriEndIndex = template.length();
-		List<TemplateVariable> variables = new ArrayList<>();
+		this.compiled = CompiledUriTemplate.compile(template);
 
-		while (matcher.find()) {
+		List<TemplateVariable> variables = compiled.getVariables();
 
-			int start = matcher.start(0);
+		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
+		this.baseUri = compiled.getBaseUri();
+	}
 
-			VariableType type = VariableType.from(matcher.group(1));
-			String[] names = matcher.group(2).split(",");
+	/**
+	 * Returns the {@link UriTemplate} for the given template string. Templates containing variables are cached so that
+	 * repeated lookups of the same template don't parse it again. The cache holds a limited number of templates only and
+	 * is reset once that limit is reached. Plain URIs are not cached but turned into a {@link UriTemplate} without any
+	 * parsing.
+	 *
+	 * @param template must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 1.0
+	 */
+	public static UriTemplate of(String template) {
 
-			for (String name : names) {
-				TemplateVariable variable = new TemplateVariable(name, type);
+		Assert.hasText(template, "Template must not be null or empty!");
 
-				if (!variable.isRequired() && start < baseUriEndIndex) {
-					baseUriEndIndex = start;
-				}
+		if (template.indexOf('{') < 0) {
+			return new UriTemplate(template);
+		}
 
-				variables.add(variable);
-			}
+		UriTemplate result = CACHE.get(template);
+
+		if (result != null) {
+			return result;
 		}
 
-		this.variables = variables.isEmpty() ? TemplateVariables.NONE : new TemplateVariables(variables);
-		this.baseUri = template.substring(0, baseUriEndIndex);
+		result = new UriTemplate(template);
+
+		if (CACHE.size() >= CACHE_LIMIT) {
+			CACHE.clear();
+		}
+
+		CACHE.put(template, result);
+
+		return result;
 	}
 
 	/**
@@ -94,6 +109,14 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 
 		this.baseUri = baseUri;
 		this.variables = variables == null ? TemplateVariables.NONE : variables;
+		this.compiled = CompiledUriTemplate.compile(baseUri).append(this.variables.asList());
+	}
+
+	private UriTemplate(String baseUri, TemplateVariables variables, CompiledUriTemplate compiled) {
+
+		this.baseUri = baseUri;
+		this.variables = variables;
+		this.compiled = compiled;
 	}
 
 	/**
@@ -108,26 +131,26 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return this;
 		}
 
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
 		List<TemplateVariable> result = new ArrayList<>();
 
 		for (TemplateVariable variable : variables) {
 
-			boolean isRequestParam = variable.isRequestParameterVariable();
-			boolean alreadyPresent = components.getQueryParams().containsKey(variable.getName());
-
-			if (isRequestParam && alreadyPresent) {
+			if (variable.isRequestParameterVariable() && hasQueryParameter(variable.getName())) {
 				continue;
 			}
 
-			if (variable.isFragment() && StringUtils.hasText(components.getFragment())) {
+			if (variable.isFragment() && hasFragment()) {
 				continue;
 			}
 
 			result.add(variable);
 		}
 
-		return new UriTemplate(baseUri, this.variables.concat(result));
+		TemplateVariables concatenated = this.variables.concat(result);
+		List<TemplateVariable> added = concatenated.asList().subList(this.variables.asList().size(),
+				concatenated.asList().size());
+
+		return new UriTemplate(baseUri, concatenated, compiled.append(added));
 	}
 
 	/**
@@ -153,7 +176,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 			return false;
 		}
 
-		return VARIABLE_REGEX.matcher(candidate).find();
+		return CompiledUriTemplate.containsExpression(candidate);
 	}
 
 	/**
@@ -185,22 +208,7 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 * @see #expand(Map)
 	 */
 	public URI expand(Object... parameters) {
-
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
-		}
-
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
-		Iterator<Object> iterator = Arrays.asList(parameters).iterator();
-
-		for (TemplateVariable variable : getOptionalVariables()) {
-
-			Object value = iterator.hasNext() ? iterator.next() : null;
-			appendToBuilder(builder, variable, value);
-		}
-
-		return builder.build().toUri();
+		return expand(parameters == null ? Values.of() : Values.of(parameters));
 	}
 
 	/**
@@ -211,20 +219,62 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	public URI expand(Map<String, ? extends Object> parameters) {
 
-		if (TemplateVariables.NONE.equals(variables)) {
-			return URI.create(baseUri);
+		if (!compiled.hasExpressions()) {
+			return expand(Values.of());
 		}
 
 		Assert.notNull(parameters, "Parameters must not be null!");
 
-		org.springframework.web.util.UriTemplate baseTemplate = new org.springframework.web.util.UriTemplate(baseUri);
-		UriComponentsBuilder builder = UriComponentsBuilder.fromUri(baseTemplate.expand(parameters));
+		return expand(Values.of(parameters));
+	}
+
+	private URI expand(Values values) {
+		return URI.create(compiled.expand(values));
+	}
 
-		for (TemplateVariable variable : getOptionalVariables()) {
-			appendToBuilder(builder, variable, parameters.get(variable.getName()));
+	/**
+	 * Returns whether the query of the base URI contains a parameter with the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return
+	 */
+	private boolean hasQueryParameter(String name) {
+
+		int fragmentStart = baseUri.indexOf('#');
+		int end = fragmentStart < 0 ? baseUri.length() : fragmentStart;
+		int start = baseUri.indexOf('?');
+
+		while (start >= 0 && start < end) {
+
+			int parameterStart = start + 1;
+			int next = baseUri.indexOf('&', parameterStart);
+			int parameterEnd = next < 0 || next > end ? end : next;
+			int nameEnd = baseUri.indexOf('=', parameterStart);
+
+			if (nameEnd < 0 || nameEnd > parameterEnd) {
+				nameEnd = parameterEnd;
+			}
+
+			if (nameEnd - parameterStart == name.length() && baseUri.startsWith(name, parameterStart)) {
+				return true;
+			}
+
+			start = parameterEnd < end ? parameterEnd : -1;
 		}
 
-		return builder.build().toUri();
+		return false;
+	}
+
+	/**
+	 * Returns whether the base URI contains a non-empty fragment.
+	 *
+	 * @return
+	 */
+	private boolean hasFragment() {
+
+		int fragmentStart = baseUri.indexOf('#');
+
+		return fragmentStart >= 0 && StringUtils.hasText(baseUri.substring(fragmentStart + 1));
 	}
 
 	/* 
@@ -242,51 +292,6 @@ public class UriTemplate implements Iterable<TemplateVariable>, Serializable {
 	 */
 	@Override
 	public String toString() {
-
-		UriComponents components = UriComponentsBuilder.fromUriString(baseUri).build();
-		boolean hasQueryParameters = !components.getQueryParams().isEmpty();
-
-		return baseUri + getOptionalVariables().toString(hasQueryParameters);
-	}
-
-	private TemplateVariables getOptionalVariables() {
-
-		return variables.asList().stream() //
-				.filter(variable -> !variable.isRequired()) //
-				.collect(Collectors.collectingAndThen(Collectors.toList(), TemplateVariables::new));
-	}
-
-	/**
-	 * Appends the value for the given {@link TemplateVariable} to the given {@link UriComponentsBuilder}.
-	 * 
-	 * @param builder must not be {@literal null}.
-	 * @param variable must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 */
-	private static void appendToBuilder(UriComponentsBuilder builder, TemplateVariable variable, Object value) {
-
-		if (value == null) {
-
-			if (variable.isRequired()) {
-				throw new IllegalArgumentException(
-						String.format("Template variable %s is required but no value was given!", variable.getName()));
-			}
-
-			return;
-		}
-
-		switch (variable.getType()) {
-			case REQUEST_PARAM:
-			case REQUEST_PARAM_CONTINUED:
-				builder.queryParam(variable.getName(), value);
-				break;
-			case PATH_VARIABLE:
-			case SEGMENT:
-				builder.pathSegment(value.toString());
-				break;
-			case FRAGMENT:
-				builder.fragment(value.toString());
-				break;
-		}
+		return compiled.toString();
 	}
 }
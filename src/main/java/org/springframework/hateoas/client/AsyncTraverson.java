@@ -0,0 +1,423 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.UriTemplate;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.function.client.ExchangeStrategies;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Non-blocking variant of {@link Traverson} issuing its requests through a {@link WebClient}. Traversals are described
+ * the same way as with {@link Traverson} but result in a {@link Mono} that executes the traversal once subscribed to.
+ * No thread is held while waiting for the responses of the individual hops. Use {@link Mono#toFuture()} to obtain a
+ * {@link java.util.concurrent.CompletableFuture} instead.
+ * <p>
+ * Requires Spring WebFlux and a reactive HTTP client (e.g. Reactor Netty) on the classpath.
+ *
+ * @see Traverson
+ * @since 1.0
+ */
+public class AsyncTraverson {
+
+	private static final LinkDiscoverers DEFAULT_LINK_DISCOVERERS;
+
+	static {
+		LinkDiscoverer discoverer = new HalLinkDiscoverer();
+		DEFAULT_LINK_DISCOVERERS = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+	}
+
+	private final URI baseUri;
+	private final List<MediaType> mediaTypes;
+
+	private WebClient client;
+	private LinkDiscoverers discoverers;
+
+	/**
+	 * Creates a new {@link AsyncTraverson} interacting with the given base URI and using the given {@link MediaType}s to
+	 * interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public AsyncTraverson(URI baseUri, MediaType... mediaTypes) {
+		this(baseUri, Arrays.asList(mediaTypes));
+	}
+
+	/**
+	 * Creates a new {@link AsyncTraverson} interacting with the given base URI and using the given {@link MediaType}s to
+	 * interact with the service.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public AsyncTraverson(URI baseUri, List<MediaType> mediaTypes) {
+
+		Assert.notNull(baseUri, "Base URI must not be null!");
+		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+
+		this.baseUri = baseUri;
+		this.mediaTypes = mediaTypes;
+		this.discoverers = DEFAULT_LINK_DISCOVERERS;
+
+		setWebClient(null);
+	}
+
+	/**
+	 * Creates a {@link WebClient} able to read HAL representations of the HAL flavors contained in the given
+	 * {@link MediaType}s.
+	 *
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return
+	 */
+	private static WebClient createDefaultWebClient(List<MediaType> mediaTypes) {
+
+		List<MediaType> halFlavors = Traverson.getHalJsonFlavors(mediaTypes);
+
+		if (halFlavors.isEmpty()) {
+			return WebClient.create();
+		}
+
+		Jackson2JsonDecoder decoder = new Jackson2JsonDecoder(Traverson.getSharedHalObjectMapper(),
+				halFlavors.toArray(new MimeType[halFlavors.size()]));
+
+		ExchangeStrategies strategies = ExchangeStrategies.builder() //
+				.codecs(configurer -> configurer.defaultCodecs().jackson2JsonDecoder(decoder)) //
+				.build();
+
+		return WebClient.builder().exchangeStrategies(strategies).build();
+	}
+
+	/**
+	 * Configures the {@link WebClient} to use. If {@literal null} is provided a default {@link WebClient} will be used.
+	 *
+	 * @param client can be {@literal null}.
+	 * @return
+	 */
+	public AsyncTraverson setWebClient(WebClient client) {
+
+		this.client = client == null ? createDefaultWebClient(mediaTypes) : client;
+		return this;
+	}
+
+	/**
+	 * Sets the {@link LinkDiscoverer}s to use. By default a single {@link HalLinkDiscoverer} is registered. If
+	 * {@literal null} is provided the default is reapplied.
+	 *
+	 * @param discoverers can be {@literal null}.
+	 * @return
+	 */
+	public AsyncTraverson setLinkDiscoverers(List<? extends LinkDiscoverer> discoverers) {
+
+		this.discoverers = discoverers == null ? DEFAULT_LINK_DISCOVERERS
+				: new LinkDiscoverers(OrderAwarePluginRegistry.create(discoverers));
+
+		return this;
+	}
+
+	/**
+	 * Sets up an {@link AsyncTraversalBuilder} to follow the given rels.
+	 *
+	 * @param rels must not be {@literal null} or empty.
+	 * @return
+	 * @see AsyncTraversalBuilder
+	 */
+	public AsyncTraversalBuilder follow(String... rels) {
+		return new AsyncTraversalBuilder().follow(rels);
+	}
+
+	/**
+	 * Sets up an {@link AsyncTraversalBuilder} for a single rel with customized details.
+	 *
+	 * @param hop must not be {@literal null}
+	 * @return
+	 */
+	public AsyncTraversalBuilder follow(Hop hop) {
+		return new AsyncTraversalBuilder().follow(hop);
+	}
+
+	/**
+	 * Builder API to customize asynchronous traversals. All terminal operations return a {@link Mono} that executes the
+	 * traversal as configured at the time the operation was invoked, each time it is subscribed to.
+	 */
+	public class AsyncTraversalBuilder {
+
+		private final List<Hop> rels = new ArrayList<>();
+		private Map<String, Object> templateParameters = new HashMap<>();
+		private HttpHeaders headers = new HttpHeaders();
+
+		private AsyncTraversalBuilder() {}
+
+		/**
+		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
+		 * line.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public AsyncTraversalBuilder follow(String... rels) {
+
+			Assert.notNull(rels, "Rels must not be null!");
+
+			for (String rel : rels) {
+				this.rels.add(Hop.rel(rel));
+			}
+
+			return this;
+		}
+
+		/**
+		 * Follows the given rels one by one, which means a request per rel to discover the next resource with the rel in
+		 * line.
+		 *
+		 * @param hop must not be {@literal null}.
+		 * @return
+		 * @see Hop#rel(String)
+		 */
+		public AsyncTraversalBuilder follow(Hop hop) {
+
+			Assert.notNull(hop, "Hop must not be null!");
+
+			this.rels.add(hop);
+
+			return this;
+		}
+
+		/**
+		 * Adds the given operations parameters to the traversal. If a link discovered by the traversal is templated, the
+		 * given parameters will be used to expand the operations into a resolvable URI.
+		 *
+		 * @param parameters can be {@literal null}.
+		 * @return
+		 */
+		public AsyncTraversalBuilder withTemplateParameters(Map<String, Object> parameters) {
+
+			this.templateParameters = parameters;
+			return this;
+		}
+
+		/**
+		 * The {@link HttpHeaders} that shall be used for the requests of the traversal.
+		 *
+		 * @param headers can be {@literal null}.
+		 * @return
+		 */
+		public AsyncTraversalBuilder withHeaders(HttpHeaders headers) {
+
+			this.headers = headers;
+			return this;
+		}
+
+		/**
+		 * Executes the traversal and marshals the final response into an object of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			Traversal traversal = new Traversal();
+
+			return traversal.toExpandedFinalUrl() //
+					.flatMap(uri -> traversal.prepareRequest(uri).retrieve().bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and marshals the final response into an object of the given
+		 * {@link ParameterizedTypeReference}.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(ParameterizedTypeReference<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			Traversal traversal = new Traversal();
+
+			return traversal.toExpandedFinalUrl() //
+					.flatMap(uri -> traversal.prepareRequest(uri).retrieve().bodyToMono(type));
+		}
+
+		/**
+		 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
+		 * representation. Completes empty if the expression evaluates to {@literal null}.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @return
+		 */
+		public <T> Mono<T> toObject(String jsonPath) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+			Traversal traversal = new Traversal();
+
+			return traversal.toExpandedFinalUrl() //
+					.flatMap(uri -> traversal.prepareRequest(uri).retrieve().bodyToMono(String.class)) //
+					.flatMap(body -> Mono.justOrEmpty(JsonPath.<T> read(body, jsonPath)));
+		}
+
+		/**
+		 * Returns the raw {@link ResponseEntity} with the representation unmarshalled into an instance of the given type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		public <T> Mono<ResponseEntity<T>> toEntity(Class<T> type) {
+
+			Assert.notNull(type, "Target type must not be null!");
+
+			Traversal traversal = new Traversal();
+
+			return traversal.toExpandedFinalUrl() //
+					.flatMap(uri -> traversal.prepareRequest(uri).retrieve().toEntity(type));
+		}
+
+		/**
+		 * Returns the {@link Link} found for the last rel in the rels configured to follow, expanded using the configured
+		 * template parameters.
+		 *
+		 * @return
+		 * @see #withTemplateParameters(Map)
+		 */
+		public Mono<Link> asLink() {
+
+			Traversal traversal = new Traversal();
+			String rel = traversal.getLastRel();
+
+			return traversal.toExpandedFinalUrl().map(uri -> new Link(uri.toString(), rel));
+		}
+
+		/**
+		 * Returns the templated {@link Link} found for the last rel in the rels configured to follow.
+		 *
+		 * @return
+		 */
+		public Mono<Link> asTemplatedLink() {
+
+			Traversal traversal = new Traversal();
+			String rel = traversal.getLastRel();
+
+			return traversal.toFinalUrl().map(uri -> new Link(uri, rel));
+		}
+
+		/**
+		 * Returns all {@link Link}s with the given relations found in the final representation. The representation is
+		 * retrieved and inspected only once for all relations.
+		 *
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 */
+		public Mono<Links> asLinks(String... rels) {
+
+			Assert.notNull(rels, "Relations must not be null!");
+
+			Traversal traversal = new Traversal();
+			List<String> relations = Arrays.asList(rels);
+
+			return traversal.toExpandedFinalUrl() //
+					.flatMap(traversal::get) //
+					.map(response -> Rels.findLinksWithRels(relations, response.getBody(),
+							response.getHeaders().getContentType(), discoverers)) //
+					.map(links -> new Links(links.values().stream() //
+							.flatMap(List::stream) //
+							.collect(Collectors.toList())));
+		}
+
+		/**
+		 * Snapshot of the builder's configuration at the time a terminal operation was invoked, so that further changes to
+		 * the builder don't affect traversals not yet subscribed to.
+		 */
+		private class Traversal {
+
+			private final List<Hop> hops = new ArrayList<>(rels);
+			private final Map<String, Object> templateParameters = AsyncTraversalBuilder.this.templateParameters;
+			private final HttpHeaders headers = AsyncTraversalBuilder.this.headers;
+
+			String getLastRel() {
+
+				Assert.isTrue(hops.size() > 0, "At least one rel needs to be provided!");
+				return hops.get(hops.size() - 1).getRel();
+			}
+
+			Mono<String> toFinalUrl() {
+				return getAndFindLinkWithRel(baseUri.toString(), 0).map(uri -> UriTemplate.of(uri).toString());
+			}
+
+			Mono<URI> toExpandedFinalUrl() {
+				return getAndFindLinkWithRel(baseUri.toString(), 0).map(uri -> UriTemplate.of(uri).expand(templateParameters));
+			}
+
+			WebClient.RequestHeadersSpec<?> prepareRequest(URI uri) {
+
+				return client.get().uri(uri).headers(toSend -> {
+
+					if (headers != null) {
+						toSend.putAll(headers);
+					}
+
+					if (toSend.getAccept().isEmpty()) {
+						toSend.setAccept(mediaTypes);
+					}
+				});
+			}
+
+			Mono<ResponseEntity<String>> get(URI uri) {
+				return prepareRequest(uri).retrieve().toEntity(String.class);
+			}
+
+			private Mono<String> getAndFindLinkWithRel(String uri, int index) {
+
+				if (index >= hops.size()) {
+					return Mono.just(uri);
+				}
+
+				Hop hop = hops.get(index);
+
+				return get(UriTemplate.of(uri).expand()) //
+						.map(response -> Traverson.findNextUri(hop, response.getBody(), response.getHeaders().getContentType(),
+								discoverers, templateParameters)) //
+						.flatMap(next -> getAndFindLinkWithRel(next, index + 1));
+			}
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link HopCache} keeping a bounded number of entries in memory, evicting the least recently used ones first. The time
+ * an entry is considered fresh is capped to a configurable maximum, independently of what the server announces.
+ *
+ * @since 1.0
+ */
+public class DefaultHopCache implements HopCache {
+
+	private static final int DEFAULT_MAX_SIZE = 256;
+	private static final Duration DEFAULT_MAX_TIME_TO_LIVE = Duration.ofMinutes(10);
+
+	private final Map<Key, Entry> entries;
+	private final long maxTimeToLive;
+
+	/**
+	 * Creates a new {@link DefaultHopCache} holding up to 256 entries fresh for at most 10 minutes.
+	 */
+	public DefaultHopCache() {
+		this(DEFAULT_MAX_SIZE, DEFAULT_MAX_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Creates a new {@link DefaultHopCache} with the given bounds.
+	 *
+	 * @param maxSize the maximum number of entries, must be greater than zero.
+	 * @param maxTimeToLive the maximum time an entry is considered fresh, must not be {@literal null} or negative.
+	 */
+	@SuppressWarnings("serial")
+	public DefaultHopCache(int maxSize, Duration maxTimeToLive) {
+
+		Assert.isTrue(maxSize > 0, "Maximum size must be greater than zero!");
+		Assert.notNull(maxTimeToLive, "Maximum time to live must not be null!");
+		Assert.isTrue(!maxTimeToLive.isNegative(), "Maximum time to live must not be negative!");
+
+		this.maxTimeToLive = maxTimeToLive.toMillis();
+		this.entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true) {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+			 */
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.HopCache#get(org.springframework.hateoas.client.HopCache.Key)
+	 */
+	@Override
+	public Entry get(Key key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		synchronized (entries) {
+			return entries.get(key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.HopCache#put(org.springframework.hateoas.client.HopCache.Key, org.springframework.hateoas.client.HopCache.Entry)
+	 */
+	@Override
+	public void put(Key key, Entry entry) {
+
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(entry, "Entry must not be null!");
+
+		Entry toStore = entry.getTimeToLive() > maxTimeToLive ? entry.withTimeToLive(maxTimeToLive) : entry;
+
+		synchronized (entries) {
+			entries.put(key, toStore);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.HopCache#evict(org.springframework.hateoas.client.HopCache.Key)
+	 */
+	@Override
+	public void evict(Key key) {
+
+		Assert.notNull(key, "Key must not be null!");
+
+		synchronized (entries) {
+			entries.remove(key);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.client.HopCache#clear()
+	 */
+	@Override
+	public void clear() {
+
+		synchronized (entries) {
+			entries.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of entries currently stored.
+	 *
+	 * @return
+	 */
+	public int size() {
+
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+}
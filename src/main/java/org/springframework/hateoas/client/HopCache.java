@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.experimental.Wither;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache for the {@link Link}s {@link Traverson} discovers while following relations. Only the discovered {@link Link}
+ * is stored, not the representation it was found in. Entries are fresh for the lifetime announced by the server via
+ * {@code Cache-Control: max-age} or {@code Expires} and are revalidated using {@code If-None-Match} afterwards if the
+ * server provided an {@code ETag}.
+ * <p>
+ * Note that entries are not keyed by any request headers but {@code Accept}, so a cache must not be shared between
+ * {@link Traverson} instances sending different credentials.
+ *
+ * @see Traverson#setHopCache(HopCache)
+ * @see DefaultHopCache
+ * @since 1.0
+ */
+public interface HopCache {
+
+	/**
+	 * Returns the {@link Entry} stored for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the {@link Entry} or {@literal null} if none stored.
+	 */
+	Entry get(Key key);
+
+	/**
+	 * Stores the given {@link Entry} for the given {@link Key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param entry must not be {@literal null}.
+	 */
+	void put(Key key, Entry entry);
+
+	/**
+	 * Removes the {@link Entry} stored for the given {@link Key}, if any.
+	 *
+	 * @param key must not be {@literal null}.
+	 */
+	void evict(Key key);
+
+	/**
+	 * Removes all entries.
+	 */
+	void clear();
+
+	/**
+	 * Key of a cached hop, consisting of the expanded URI of the requested resource, the accepted media types and the
+	 * relation looked up in its representation.
+	 */
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	class Key {
+
+		URI uri;
+		List<MediaType> accept;
+		String rel;
+
+		/**
+		 * Creates a new {@link Key} for the given URI, accepted {@link MediaType}s and relation.
+		 *
+		 * @param uri must not be {@literal null}.
+		 * @param accept must not be {@literal null}.
+		 * @param rel must not be {@literal null} or empty.
+		 * @return
+		 */
+		public static Key of(URI uri, List<MediaType> accept, String rel) {
+
+			Assert.notNull(uri, "URI must not be null!");
+			Assert.notNull(accept, "Accepted media types must not be null!");
+			Assert.hasText(rel, "Relation must not be null or empty!");
+
+			return new Key(uri, Collections.unmodifiableList(new ArrayList<>(accept)), rel);
+		}
+	}
+
+	/**
+	 * A discovered {@link Link} along with the validator and freshness information of the response it was found in.
+	 */
+	@Value
+	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+	class Entry {
+
+		Link link;
+		String eTag;
+		long validated;
+		@Wither long timeToLive;
+
+		/**
+		 * Creates a new {@link Entry} for the given {@link Link} found in a response with the given {@link HttpHeaders}.
+		 *
+		 * @param link must not be {@literal null}.
+		 * @param headers must not be {@literal null}.
+		 * @param now the current time in milliseconds.
+		 * @return the {@link Entry} or {@literal null} if the response must not be cached or would never be fresh and
+		 *         can't be revalidated.
+		 */
+		public static Entry of(Link link, HttpHeaders headers, long now) {
+
+			Assert.notNull(link, "Link must not be null!");
+			Assert.notNull(headers, "Headers must not be null!");
+
+			long timeToLive = getTimeToLive(headers, now);
+			String eTag = headers.getETag();
+
+			if (timeToLive < 0 || timeToLive == 0 && eTag == null) {
+				return null;
+			}
+
+			return new Entry(link, eTag, now, timeToLive);
+		}
+
+		/**
+		 * Returns whether the {@link Entry} is still fresh at the given time.
+		 *
+		 * @param now the current time in milliseconds.
+		 * @return
+		 */
+		public boolean isFresh(long now) {
+			return now - validated < timeToLive;
+		}
+
+		/**
+		 * Returns whether the {@link Entry} can be revalidated using a conditional request.
+		 *
+		 * @return
+		 */
+		public boolean canRevalidate() {
+			return eTag != null;
+		}
+
+		/**
+		 * Returns a new {@link Entry} for a successful revalidation, i.e. a {@literal 304 Not Modified} response with the
+		 * given {@link HttpHeaders}. Keeps the previous lifetime if the response doesn't announce a new one.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @param now the current time in milliseconds.
+		 * @return the {@link Entry} or {@literal null} if the response must not be cached anymore.
+		 */
+		public Entry revalidated(HttpHeaders headers, long now) {
+
+			Assert.notNull(headers, "Headers must not be null!");
+
+			boolean announcesLifetime = headers.containsKey(HttpHeaders.CACHE_CONTROL)
+					|| headers.containsKey(HttpHeaders.EXPIRES);
+			long timeToLive = announcesLifetime ? getTimeToLive(headers, now) : this.timeToLive;
+			String eTag = headers.getETag();
+
+			return timeToLive < 0 ? null : new Entry(link, eTag == null ? this.eTag : eTag, now, timeToLive);
+		}
+
+		/**
+		 * Returns the number of milliseconds a response with the given {@link HttpHeaders} is fresh, {@literal 0} if it
+		 * has to be revalidated right away and {@literal -1} if it must not be stored at all.
+		 *
+		 * @param headers must not be {@literal null}.
+		 * @param now the current time in milliseconds.
+		 * @return
+		 */
+		private static long getTimeToLive(HttpHeaders headers, long now) {
+
+			long maxAge = -1;
+
+			for (String value : headers.getOrDefault(HttpHeaders.CACHE_CONTROL, Collections.emptyList())) {
+				for (String directive : StringUtils.tokenizeToStringArray(value, ",")) {
+
+					String normalized = directive.toLowerCase(Locale.US);
+
+					if (normalized.equals("no-store")) {
+						return -1;
+					} else if (normalized.equals("no-cache")) {
+						maxAge = 0;
+					} else if (normalized.startsWith("max-age=") && maxAge != 0) {
+						maxAge = parseSeconds(StringUtils.trimTrailingCharacter(normalized.substring(8), '"'));
+					}
+				}
+			}
+
+			if (maxAge >= 0) {
+				return maxAge * 1000;
+			}
+
+			long expires = headers.getExpires();
+
+			return expires < 0 ? 0 : Math.max(expires - now, 0);
+		}
+
+		private static long parseSeconds(String source) {
+
+			try {
+				long seconds = Long.parseLong(StringUtils.trimLeadingCharacter(source, '"'));
+				return Math.min(Math.max(seconds, 0), Long.MAX_VALUE / 1000);
+			} catch (NumberFormatException o_O) {
+				return 0;
+			}
+		}
+	}
+}
@@ -15,6 +15,14 @@
  */
 package org.springframework.hateoas.client;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
@@ -22,6 +30,7 @@ import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
 
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 
 /**
  * Helper class to find {@link Link} instances in representations.
@@ -51,6 +60,69 @@ class Rels {
 		return new LinkDiscovererRel(rel, discoverers);
 	}
 
+	/**
+	 * Returns all {@link Link}s for the given relation names found in the given representation. Relations to be looked
+	 * up through the {@link LinkDiscoverers} are resolved in a single pass over the representation.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @param mediaType must not be {@literal null}.
+	 * @param discoverers must not be {@literal null}.
+	 * @return a {@link Map} with an entry for each of the given relation names, in the order they were given.
+	 * @since 1.0
+	 */
+	public static Map<String, List<Link>> findLinksWithRels(Collection<String> rels, String representation,
+			MediaType mediaType, LinkDiscoverers discoverers) {
+
+		Assert.notNull(rels, "Relation names must not be null!");
+		Assert.notNull(discoverers, "LinkDiscoverers must not be null!");
+
+		List<String> discovererRels = rels.stream() //
+				.filter(rel -> !rel.startsWith("$")) //
+				.collect(Collectors.toList());
+
+		Map<String, List<Link>> discovered = discovererRels.isEmpty() //
+				? Collections.emptyMap() //
+				: LinkDiscovererRel.findInResponse(discovererRels, representation, mediaType, discoverers);
+
+		Map<String, List<Link>> result = new LinkedHashMap<>(rels.size());
+
+		for (String rel : rels) {
+
+			if (!rel.startsWith("$")) {
+				result.put(rel, discovered.get(rel));
+				continue;
+			}
+
+			Link link = new JsonPathRel(rel).findOptionalInResponse(representation);
+			result.put(rel, link == null ? Collections.emptyList() : Collections.singletonList(link));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns all {@link Link}s for the given relation name found in the given representation. For JSON path expressions
+	 * every value matched by the expression is turned into a {@link Link}.
+	 *
+	 * @param rel must not be {@literal null} or empty.
+	 * @param representation must not be {@literal null}.
+	 * @param mediaType can be {@literal null}.
+	 * @param discoverers must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public static List<Link> findLinksWithRel(String rel, InputStream representation, MediaType mediaType,
+			LinkDiscoverers discoverers) {
+
+		Assert.hasText(rel, "Relation name must not be null!");
+		Assert.notNull(discoverers, "LinkDiscoverers must not be null!");
+
+		return rel.startsWith("$") //
+				? new JsonPathRel(rel).findAllInResponse(representation) //
+				: LinkDiscovererRel.getRequiredDiscoverer(discoverers, mediaType).findLinksWithRel(rel, representation);
+	}
+
 	public interface Rel {
 
 		/**
@@ -61,6 +133,17 @@ class Rels {
 		 * @return
 		 */
 		Link findInResponse(String representation, MediaType mediaType);
+
+		/**
+		 * Returns the link contained in the given {@link InputStream} representation of the given {@link MediaType}.
+		 * Implementations may stop reading the representation once the link was found.
+		 *
+		 * @param representation
+		 * @param mediaType
+		 * @return
+		 * @since 1.0
+		 */
+		Link findInResponse(InputStream representation, MediaType mediaType);
 	}
 
 	/**
@@ -94,6 +177,34 @@ class Rels {
 		 */
 		@Override
 		public Link findInResponse(String response, MediaType mediaType) {
+			return getRequiredDiscoverer(discoverers, mediaType).findLinkWithRel(rel, response);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream response, MediaType mediaType) {
+			return getRequiredDiscoverer(discoverers, mediaType).findLinkWithRel(rel, response);
+		}
+
+		/**
+		 * Returns the {@link Link}s for all of the given relation names using the {@link LinkDiscoverer} for the given
+		 * {@link MediaType}, which inspects the response only once.
+		 * 
+		 * @param rels must not be {@literal null}.
+		 * @param response must not be {@literal null}.
+		 * @param mediaType must not be {@literal null}.
+		 * @param discoverers must not be {@literal null}.
+		 * @return
+		 */
+		static Map<String, List<Link>> findInResponse(Collection<String> rels, String response, MediaType mediaType,
+				LinkDiscoverers discoverers) {
+			return getRequiredDiscoverer(discoverers, mediaType).findLinksWithRels(rels, response);
+		}
+
+		private static LinkDiscoverer getRequiredDiscoverer(LinkDiscoverers discoverers, MediaType mediaType) {
 
 			LinkDiscoverer discoverer = discoverers.getLinkDiscovererFor(mediaType);
 
@@ -102,7 +213,7 @@ class Rels {
 						mediaType));
 			}
 
-			return discoverer.findLinkWithRel(rel, response);
+			return discoverer;
 		}
 
 		/*
@@ -149,5 +260,55 @@ class Rels {
 		public Link findInResponse(String representation, MediaType mediaType) {
 			return new Link(JsonPath.<Object> read(representation, jsonPath).toString(), rel);
 		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.client.Rels.Rel#findInResponse(java.io.InputStream, org.springframework.http.MediaType)
+		 */
+		@Override
+		public Link findInResponse(InputStream representation, MediaType mediaType) {
+			return new Link(JsonPath.parse(representation).<Object> read(jsonPath).toString(), rel);
+		}
+
+		/**
+		 * Returns a {@link Link} for every value the expression matches in the given representation.
+		 *
+		 * @param representation must not be {@literal null}.
+		 * @return
+		 */
+		List<Link> findAllInResponse(InputStream representation) {
+
+			Object result;
+
+			try {
+				result = JsonPath.parse(representation).read(jsonPath);
+			} catch (PathNotFoundException o_O) {
+				return Collections.emptyList();
+			}
+
+			if (!(result instanceof Collection)) {
+				return result == null ? Collections.emptyList() : Collections.singletonList(new Link(result.toString(), rel));
+			}
+
+			return ((Collection<?>) result).stream() //
+					.filter(it -> it != null) //
+					.map(it -> new Link(it.toString(), rel)) //
+					.collect(Collectors.toList());
+		}
+
+		/**
+		 * Returns the {@link Link} found in the given representation or {@literal null} if the expression doesn't match.
+		 * 
+		 * @param representation must not be {@literal null}.
+		 * @return
+		 */
+		Link findOptionalInResponse(String representation) {
+
+			try {
+				return findInResponse(representation, null);
+			} catch (PathNotFoundException o_O) {
+				return null;
+			}
+		}
 	}
 }
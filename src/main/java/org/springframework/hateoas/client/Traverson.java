@@ -17,6 +17,8 @@ package org.springframework.hateoas.client;
 
 import static org.springframework.http.HttpMethod.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
@@ -26,32 +28,46 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.client.Rels.Rel;
+import org.springframework.hateoas.core.ParallelUtils;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.Jackson2HalModule;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.util.Assert;
+import org.springframework.web.client.RequestCallback;
 import org.springframework.web.client.RestOperations;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.spi.json.JacksonJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 
 /**
  * Component to ease traversing hypermedia APIs by following links with relation types. Highly inspired by the equally
@@ -67,10 +83,17 @@ import com.jayway.jsonpath.JsonPath;
 public class Traverson {
 
 	private static final LinkDiscoverers DEFAULT_LINK_DISCOVERERS;
+	private static final Executor DEFAULT_FAN_OUT_EXECUTOR;
+	private static final int DEFAULT_PARALLELISM = 8;
 
 	static {
+
 		LinkDiscoverer discoverer = new HalLinkDiscoverer();
 		DEFAULT_LINK_DISCOVERERS = new LinkDiscoverers(OrderAwarePluginRegistry.create(Arrays.asList(discoverer)));
+
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("traverson-");
+		executor.setDaemon(true);
+		DEFAULT_FAN_OUT_EXECUTOR = executor;
 	}
 
 	private final URI baseUri;
@@ -78,6 +101,7 @@ public class Traverson {
 
 	private RestOperations operations;
 	private LinkDiscoverers discoverers;
+	private HopCache hopCache;
 
 	/**
 	 * Creates a new {@link Traverson} interacting with the given base URI and using the given {@link MediaType}s to
@@ -98,15 +122,30 @@ public class Traverson {
 	 * @param mediaTypes must not be {@literal null} or empty.
 	 */
 	public Traverson(URI baseUri, List<MediaType> mediaTypes) {
+		this(baseUri, mediaTypes, null, DEFAULT_LINK_DISCOVERERS);
+	}
+
+	/**
+	 * Creates a new {@link Traverson} using the given, already set up {@link RestOperations} and
+	 * {@link LinkDiscoverers}.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 * @param operations can be {@literal null}, a default {@link RestTemplate} will be used in that case.
+	 * @param discoverers must not be {@literal null}.
+	 * @see TraversonClient
+	 */
+	Traverson(URI baseUri, List<MediaType> mediaTypes, RestOperations operations, LinkDiscoverers discoverers) {
 
 		Assert.notNull(baseUri, "Base URI must not be null!");
 		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+		Assert.notNull(discoverers, "LinkDiscoverers must not be null!");
 
 		this.mediaTypes = mediaTypes;
 		this.baseUri = baseUri;
-		this.discoverers = DEFAULT_LINK_DISCOVERERS;
+		this.discoverers = discoverers;
 
-		setRestOperations(createDefaultTemplate(this.mediaTypes));
+		setRestOperations(operations);
 	}
 
 	/**
@@ -129,13 +168,18 @@ public class Traverson {
 
 		Assert.notNull(mediaTypes, "Media types must not be null!");
 
+		return getMessageConverters(mediaTypes, createHalObjectMapper());
+	}
+
+	private static List<HttpMessageConverter<?>> getMessageConverters(List<MediaType> mediaTypes, ObjectMapper mapper) {
+
 		List<HttpMessageConverter<?>> converters = new ArrayList<>();
 		converters.add(new StringHttpMessageConverter(Charset.forName("UTF-8")));
 
 		List<MediaType> halFlavors = getHalJsonFlavors(mediaTypes);
 
 		if (!halFlavors.isEmpty()) {
-			converters.add(getHalConverter(halFlavors));
+			converters.add(getHalConverter(halFlavors, mapper));
 		}
 
 		return converters;
@@ -147,7 +191,7 @@ public class Traverson {
 	 * @param mediaTypes must not be {@literal null}.
 	 * @return
 	 */
-	private static List<MediaType> getHalJsonFlavors(Collection<MediaType> mediaTypes) {
+	static List<MediaType> getHalJsonFlavors(Collection<MediaType> mediaTypes) {
 
 		return mediaTypes.stream() //
 				.filter(MediaTypes.HAL_JSON::isCompatibleWith) //
@@ -155,9 +199,22 @@ public class Traverson {
 	}
 
 	private static final RestOperations createDefaultTemplate(List<MediaType> mediaTypes) {
+		return createDefaultTemplate(mediaTypes, new SimpleClientHttpRequestFactory());
+	}
 
-		RestTemplate template = new RestTemplate();
-		template.setMessageConverters(getDefaultMessageConverters(mediaTypes));
+	/**
+	 * Creates a {@link RestTemplate} for the given {@link MediaType}s using the given {@link ClientHttpRequestFactory}.
+	 * HAL representations are read using an {@link ObjectMapper} shared by all default templates so that Jackson's
+	 * deserializer caches only have to be populated once.
+	 *
+	 * @param mediaTypes must not be {@literal null}.
+	 * @param requestFactory must not be {@literal null}.
+	 * @return
+	 */
+	static RestTemplate createDefaultTemplate(List<MediaType> mediaTypes, ClientHttpRequestFactory requestFactory) {
+
+		RestTemplate template = new RestTemplate(getMessageConverters(mediaTypes, SharedHalObjectMapper.INSTANCE));
+		template.setRequestFactory(requestFactory);
 
 		return template;
 	}
@@ -167,11 +224,7 @@ public class Traverson {
 	 * 
 	 * @return
 	 */
-	private static final HttpMessageConverter<?> getHalConverter(List<MediaType> halFlavours) {
-
-		ObjectMapper mapper = new ObjectMapper();
-		mapper.registerModule(new Jackson2HalModule());
-		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+	private static final HttpMessageConverter<?> getHalConverter(List<MediaType> halFlavours, ObjectMapper mapper) {
 
 		MappingJackson2HttpMessageConverter converter = new MappingJackson2HttpMessageConverter();
 
@@ -181,6 +234,40 @@ public class Traverson {
 		return converter;
 	}
 
+	/**
+	 * Creates a new {@link ObjectMapper} to read HAL representations, ignoring unknown properties.
+	 *
+	 * @return
+	 */
+	static ObjectMapper createHalObjectMapper() {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.registerModule(new Jackson2HalModule());
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+		return mapper;
+	}
+
+	/**
+	 * Returns the {@link ObjectMapper} to read HAL representations shared by all default transports. Must not be
+	 * reconfigured.
+	 *
+	 * @return
+	 */
+	static ObjectMapper getSharedHalObjectMapper() {
+		return SharedHalObjectMapper.INSTANCE;
+	}
+
+	/**
+	 * Parses the given JSON representation into a {@link DocumentContext} backed by the shared HAL {@link ObjectMapper}.
+	 *
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	static DocumentContext parseDocument(InputStream representation) {
+		return JsonPath.using(SharedHalObjectMapper.JSON_PATH_CONFIGURATION).parse(representation);
+	}
+
 	/**
 	 * Configures the {@link RestOperations} to use. If {@literal null} is provided a default {@link RestTemplate} will be
 	 * used.
@@ -209,6 +296,22 @@ public class Traverson {
 		return this;
 	}
 
+	/**
+	 * Configures the {@link HopCache} to store the {@link Link}s discovered while following relations in. Subsequent
+	 * traversals then only issue requests for hops whose cached {@link Link} isn't fresh anymore. Caching is disabled if
+	 * {@literal null} is provided, which is the default.
+	 *
+	 * @param hopCache can be {@literal null}.
+	 * @return
+	 * @see DefaultHopCache
+	 * @since 1.0
+	 */
+	public Traverson setHopCache(HopCache hopCache) {
+
+		this.hopCache = hopCache;
+		return this;
+	}
+
 	/**
 	 * Sets up a {@link TraversalBuilder} to follow the given rels.
 	 * 
@@ -242,6 +345,90 @@ public class Traverson {
 		return new HttpEntity<Void>(toSend);
 	}
 
+	/**
+	 * Looks up the {@link Link} for the given {@link Hop} in the given representation and returns the URI to follow,
+	 * expanded with the {@link Hop}'s parameters if it has any.
+	 *
+	 * @param hop must not be {@literal null}.
+	 * @param representation can be {@literal null}.
+	 * @param contentType can be {@literal null}.
+	 * @param discoverers must not be {@literal null}.
+	 * @param templateParameters must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case the representation doesn't contain a link for the {@link Hop}.
+	 */
+	static String findNextUri(Hop hop, String representation, MediaType contentType, LinkDiscoverers discoverers,
+			Map<String, Object> templateParameters) {
+		return getHref(findLink(hop, representation, contentType, discoverers), hop, templateParameters);
+	}
+
+	/**
+	 * Looks up the {@link Link} for the given {@link Hop} in the given representation.
+	 *
+	 * @param hop must not be {@literal null}.
+	 * @param representation can be {@literal null}.
+	 * @param contentType can be {@literal null}.
+	 * @param discoverers must not be {@literal null}.
+	 * @return
+	 * @throws IllegalStateException in case the representation doesn't contain a link for the {@link Hop}.
+	 */
+	private static Link findLink(Hop hop, String representation, MediaType contentType, LinkDiscoverers discoverers) {
+
+		Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+		Link link = rel.findInResponse(representation, contentType);
+
+		if (link == null) {
+			throw new IllegalStateException(
+					String.format("Expected to find link with rel '%s' in response %s!", rel, representation));
+		}
+
+		return link;
+	}
+
+	/**
+	 * Looks up the {@link Link} for the given {@link Hop} in the body of the given {@link ClientHttpResponse} without
+	 * buffering it. Reading stops as soon as the {@link LinkDiscoverer} has found the link.
+	 *
+	 * @param hop must not be {@literal null}.
+	 * @param response must not be {@literal null}.
+	 * @param discoverers must not be {@literal null}.
+	 * @param source the URI the response was obtained from, must not be {@literal null}.
+	 * @return
+	 * @throws IOException in case the response body can't be read.
+	 * @throws IllegalStateException in case the representation doesn't contain a link for the {@link Hop}.
+	 */
+	private static Link findLink(Hop hop, ClientHttpResponse response, LinkDiscoverers discoverers, URI source)
+			throws IOException {
+
+		Rel rel = Rels.getRelFor(hop.getRel(), discoverers);
+		Link link = rel.findInResponse(response.getBody(), response.getHeaders().getContentType());
+
+		if (link == null) {
+			throw new IllegalStateException(
+					String.format("Expected to find link with rel '%s' in response from %s!", rel, source));
+		}
+
+		return link;
+	}
+
+	/**
+	 * Returns the URI to follow for the given {@link Link} discovered for the given {@link Hop}.
+	 *
+	 * @param link must not be {@literal null}.
+	 * @param hop must not be {@literal null}.
+	 * @param templateParameters must not be {@literal null}.
+	 * @return
+	 */
+	private static String getHref(Link link, Hop hop, Map<String, Object> templateParameters) {
+
+		/**
+		 * Don't expand if the parameters are empty
+		 */
+		return hop.hasParameters() //
+				? link.expand(hop.getMergedParameters(templateParameters)).getHref() //
+				: link.getHref();
+	}
+
 	/**
 	 * Builder API to customize traversals.
 	 * 
@@ -342,7 +529,9 @@ public class Traverson {
 
 		/**
 		 * Executes the traversal and returns the result of the given JSON Path expression evaluated against the final
-		 * representation.
+		 * representation. The representation is parsed with JSON Path's default provider, so arrays and objects are
+		 * returned as json-smart {@code JSONArray}s and {@code JSONObject}s. Use {@link #toObject(String, Class)} or
+		 * {@link #toDocument()} to evaluate the expression against a representation parsed with Jackson.
 		 * 
 		 * @param jsonPath must not be {@literal null} or empty.
 		 * @return
@@ -351,9 +540,40 @@ public class Traverson {
 
 			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
 
-			String forObject = operations.exchange(traverseToExpandedFinalUrl(), GET, prepareRequest(headers), String.class)
-					.getBody();
-			return JsonPath.read(forObject, jsonPath);
+			return operations.execute(traverseToExpandedFinalUrl(), GET, toCallback(prepareRequest(headers)), //
+					response -> JsonPath.parse(response.getBody()).<T> read(jsonPath));
+		}
+
+		/**
+		 * Executes the traversal and maps the result of the given JSON Path expression evaluated against the final
+		 * representation onto the given type.
+		 *
+		 * @param jsonPath must not be {@literal null} or empty.
+		 * @param type must not be {@literal null}.
+		 * @return
+		 * @since 1.0
+		 */
+		public <T> T toObject(String jsonPath, Class<T> type) {
+
+			Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+			Assert.notNull(type, "Target type must not be null!");
+
+			return toDocument().read(jsonPath, type);
+		}
+
+		/**
+		 * Executes the traversal and returns the parsed final representation to evaluate JSON Path expressions against.
+		 * Use this to extract multiple values from a single representation, as it's retrieved and parsed only once. The
+		 * representation is parsed with the shared HAL {@link ObjectMapper}, so arrays and objects are returned as
+		 * {@link List}s and {@link Map}s.
+		 *
+		 * @return
+		 * @since 1.0
+		 */
+		public DocumentContext toDocument() {
+
+			return operations.execute(traverseToExpandedFinalUrl(), GET, toCallback(prepareRequest(headers)), //
+					response -> parseDocument(response.getBody()));
 		}
 
 		/**
@@ -390,6 +610,47 @@ public class Traverson {
 			return traverseToLink(false);
 		}
 
+		/**
+		 * Returns all {@link Link}s with the given relations found in the final representation. The representation is
+		 * retrieved and inspected only once for all relations.
+		 * 
+		 * @param rels must not be {@literal null}.
+		 * @return
+		 * @since 1.0
+		 */
+		public Links asLinks(String... rels) {
+
+			Assert.notNull(rels, "Relations must not be null!");
+
+			ResponseEntity<String> response = operations.exchange(traverseToExpandedFinalUrl(), GET,
+					prepareRequest(headers), String.class);
+
+			Map<String, List<Link>> links = Rels.findLinksWithRels(Arrays.asList(rels), response.getBody(),
+					response.getHeaders().getContentType(), discoverers);
+
+			return new Links(links.values().stream() //
+					.flatMap(List::stream) //
+					.collect(Collectors.toList()));
+		}
+
+		/**
+		 * Fans out the traversal by following every link with the given relation found in the final representation of the
+		 * traversal configured so far. The representation is retrieved only once and the requests for the individual links
+		 * are issued concurrently.
+		 *
+		 * @param rel must not be {@literal null} or empty. Can be a JSON path expression matching multiple URIs, e.g.
+		 *          {@code $._embedded.orders[*]._links.self.href}.
+		 * @return
+		 * @see EachTraversalBuilder
+		 * @since 1.0
+		 */
+		public EachTraversalBuilder followEach(String rel) {
+
+			Assert.hasText(rel, "Relation must not be null or empty!");
+
+			return new EachTraversalBuilder(rel);
+		}
+
 		private Link traverseToLink(boolean expandFinalUrl) {
 
 			Assert.isTrue(rels.size() > 0, "At least one rel needs to be provided!");
@@ -400,13 +661,13 @@ public class Traverson {
 		private String traverseToFinalUrl() {
 
 			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
-			return new UriTemplate(uri).toString();
+			return UriTemplate.of(uri).toString();
 		}
 
 		private URI traverseToExpandedFinalUrl() {
 
 			String uri = getAndFindLinkWithRel(baseUri.toString(), rels.iterator());
-			return new UriTemplate(uri).expand(templateParameters);
+			return UriTemplate.of(uri).expand(templateParameters);
 		}
 
 		private String getAndFindLinkWithRel(String uri, Iterator<Hop> rels) {
@@ -416,30 +677,222 @@ public class Traverson {
 			}
 
 			HttpEntity<?> request = prepareRequest(headers);
-			UriTemplate template = new UriTemplate(uri);
+			URI target = UriTemplate.of(uri).expand();
+			Hop thisHop = rels.next();
 
-			ResponseEntity<String> responseEntity = operations.exchange(template.expand(), GET, request, String.class);
-			MediaType contentType = responseEntity.getHeaders().getContentType();
-			String responseBody = responseEntity.getBody();
+			Link link = hopCache == null //
+					? getLink(target, thisHop, request) //
+					: getCachedLink(target, thisHop, request, hopCache);
 
-			Hop thisHop = rels.next();
+			return getAndFindLinkWithRel(getHref(link, thisHop, templateParameters), rels);
+		}
+
+		private Link getLink(URI target, Hop hop, HttpEntity<?> request) {
+			return operations.execute(target, GET, toCallback(request), //
+					response -> findLink(hop, response, discoverers, target));
+		}
+
+		/**
+		 * Returns the {@link Link} for the given {@link Hop} from the given {@link HopCache} if it's still fresh.
+		 * Otherwise issues a request, conditional if the cached entry can be revalidated, and updates the cache.
+		 *
+		 * @param target must not be {@literal null}.
+		 * @param hop must not be {@literal null}.
+		 * @param request must not be {@literal null}.
+		 * @param cache must not be {@literal null}.
+		 * @return
+		 */
+		private Link getCachedLink(URI target, Hop hop, HttpEntity<?> request, HopCache cache) {
+
+			HopCache.Key key = HopCache.Key.of(target, request.getHeaders().getAccept(), hop.getRel());
+			HopCache.Entry cached = cache.get(key);
+			long now = System.currentTimeMillis();
+
+			if (cached != null && cached.isFresh(now)) {
+				return cached.getLink();
+			}
+
+			boolean revalidate = cached != null && cached.canRevalidate();
+			HttpEntity<?> toSend = request;
 
-			Rel rel = Rels.getRelFor(thisHop.getRel(), discoverers);
-			Link link = rel.findInResponse(responseBody, contentType);
+			if (revalidate) {
 
-			if (link == null) {
-				throw new IllegalStateException(
-						String.format("Expected to find link with rel '%s' in response %s!", rel, responseBody));
+				HttpHeaders conditional = new HttpHeaders();
+				conditional.putAll(request.getHeaders());
+				conditional.setIfNoneMatch(cached.getETag());
+
+				toSend = new HttpEntity<Void>(conditional);
+			}
+
+			return operations.execute(target, GET, toCallback(toSend), response -> {
+
+				HttpHeaders responseHeaders = response.getHeaders();
+				boolean notModified = revalidate && response.getStatusCode() == HttpStatus.NOT_MODIFIED;
+
+				Link link = notModified //
+						? cached.getLink() //
+						: findLink(hop, response, discoverers, target);
+
+				HopCache.Entry entry = notModified //
+						? cached.revalidated(responseHeaders, now) //
+						: HopCache.Entry.of(link, responseHeaders, now);
+
+				if (entry == null) {
+					cache.evict(key);
+				} else {
+					cache.put(key, entry);
+				}
+
+				return link;
+			});
+		}
+
+		private RequestCallback toCallback(HttpEntity<?> request) {
+			return it -> it.getHeaders().putAll(request.getHeaders());
+		}
+
+		/**
+		 * Builder API to configure how the links collected by {@link TraversalBuilder#followEach(String)} are followed.
+		 * All terminal operations return the results in the order of the links in the representation.
+		 *
+		 * @since 1.0
+		 */
+		public class EachTraversalBuilder {
+
+			private final String rel;
+			private int parallelism = DEFAULT_PARALLELISM;
+			private Executor executor = DEFAULT_FAN_OUT_EXECUTOR;
+
+			private EachTraversalBuilder(String rel) {
+				this.rel = rel;
+			}
+
+			/**
+			 * Configures the maximum number of requests issued concurrently. Defaults to 8.
+			 *
+			 * @param parallelism must be greater than zero.
+			 * @return
+			 */
+			public EachTraversalBuilder withParallelism(int parallelism) {
+
+				Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+				this.parallelism = parallelism;
+				return this;
+			}
+
+			/**
+			 * Configures the {@link Executor} to issue the requests with. By default a new daemon thread is used per
+			 * concurrent worker. If {@literal null} is provided the default is reapplied.
+			 *
+			 * @param executor can be {@literal null}.
+			 * @return
+			 */
+			public EachTraversalBuilder withExecutor(Executor executor) {
+
+				this.executor = executor == null ? DEFAULT_FAN_OUT_EXECUTOR : executor;
+				return this;
 			}
 
 			/**
-			 * Don't expand if the parameters are empty
+			 * Returns all {@link Link}s with the configured relation, expanded using the configured template parameters.
+			 *
+			 * @return
 			 */
-			if (!thisHop.hasParameters()) {
-				return getAndFindLinkWithRel(link.getHref(), rels);
-			} else {
-				return getAndFindLinkWithRel(link.expand(thisHop.getMergedParameters(templateParameters)).getHref(), rels);
+			public List<Link> asLinks() {
+
+				URI target = traverseToExpandedFinalUrl();
+
+				List<Link> links = operations.execute(target, GET, toCallback(prepareRequest(headers)), //
+						response -> Rels.findLinksWithRel(rel, response.getBody(), response.getHeaders().getContentType(),
+								discoverers));
+
+				return links.stream() //
+						.map(link -> new Link(UriTemplate.of(link.getHref()).expand(templateParameters).toString(),
+								link.getRel())) //
+						.collect(Collectors.toList());
+			}
+
+			/**
+			 * Follows all links and marshals the responses into objects of the given type.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(Class<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return fanOut(uri -> operations.exchange(uri, GET, prepareRequest(headers), type).getBody());
+			}
+
+			/**
+			 * Follows all links and marshals the responses into objects of the given {@link ParameterizedTypeReference}.
+			 *
+			 * @param type must not be {@literal null}.
+			 * @return
+			 */
+			public <T> List<T> toObject(ParameterizedTypeReference<T> type) {
+
+				Assert.notNull(type, "Target type must not be null!");
+
+				return fanOut(uri -> operations.exchange(uri, GET, prepareRequest(headers), type).getBody());
+			}
+
+			/**
+			 * Follows all links and returns the results of the given JSON Path expression evaluated against the responses.
+			 * Like {@link TraversalBuilder#toObject(String)}, arrays and objects are returned as json-smart types.
+			 *
+			 * @param jsonPath must not be {@literal null} or empty.
+			 * @return
+			 */
+			public <T> List<T> toObject(String jsonPath) {
+
+				Assert.hasText(jsonPath, "JSON path must not be null or empty!");
+
+				return fanOut(uri -> operations.execute(uri, GET, toCallback(prepareRequest(headers)), //
+						response -> JsonPath.parse(response.getBody()).<T> read(jsonPath)));
+			}
+
+			/**
+			 * Applies the given function to the URIs of all links with at most {@link #parallelism} invocations running
+			 * concurrently. The calling thread acts as one of the workers.
+			 *
+			 * @param function must not be {@literal null}.
+			 * @return
+			 */
+			@SuppressWarnings("unchecked")
+			private <T> List<T> fanOut(Function<URI, T> function) {
+
+				List<Link> links = asLinks();
+				int size = links.size();
+				Object[] results = new Object[size];
+
+				ParallelUtils.forEachIndex(size, parallelism, executor,
+						index -> results[index] = function.apply(URI.create(links.get(index).getHref())));
+
+				List<T> result = new ArrayList<>(size);
+
+				for (Object element : results) {
+					result.add((T) element);
+				}
+
+				return result;
 			}
 		}
 	}
+
+	/**
+	 * Holder for the lazily created {@link ObjectMapper} shared by all default transports and the JSON Path
+	 * {@link Configuration} using it to parse representations and map results.
+	 */
+	private static class SharedHalObjectMapper {
+
+		static final ObjectMapper INSTANCE = createHalObjectMapper();
+
+		static final Configuration JSON_PATH_CONFIGURATION = Configuration.builder() //
+				.jsonProvider(new JacksonJsonProvider(INSTANCE)) //
+				.mappingProvider(new JacksonMappingProvider(INSTANCE)) //
+				.build();
+	}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import java.io.Closeable;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.hateoas.LinkDiscoverer;
+import org.springframework.hateoas.LinkDiscoverers;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.plugin.core.OrderAwarePluginRegistry;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.client.RestOperations;
+
+/**
+ * Long-lived, thread-safe entry point to create {@link Traverson} instances sharing a single HTTP transport. Creating a
+ * {@link Traverson} from a {@link TraversonClient} is cheap as neither a new {@link RestOperations} instance nor a new
+ * {@link com.fasterxml.jackson.databind.ObjectMapper} is set up for it. Thus it's fine to create a {@link Traverson} per
+ * traversal.
+ * <p>
+ * By default, requests are issued through Apache HttpClient with a {@link PoolingHttpClientConnectionManager} if present
+ * on the classpath, or through {@link java.net.HttpURLConnection} relying on the JDK's keep-alive cache otherwise. The
+ * pool keeps up to {@value #DEFAULT_MAX_CONNECTIONS} connections in total and {@value #DEFAULT_MAX_CONNECTIONS_PER_ROUTE}
+ * per route unless configured differently via {@link #TraversonClient(List, int, int)}, as HttpClient's own defaults of 10
+ * and 5 quickly turn into a bottleneck for concurrent traversals. Transports created by the {@link TraversonClient} are
+ * released on {@link #close()}.
+ *
+ * @see Traverson
+ * @since 1.0
+ */
+public class TraversonClient implements Closeable {
+
+	/**
+	 * The default maximum number of pooled connections in total.
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS = 200;
+
+	/**
+	 * The default maximum number of pooled connections per route, i.e. per target host.
+	 */
+	public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 50;
+
+	private static final boolean HTTP_COMPONENTS_PRESENT = ClassUtils.isPresent("org.apache.http.client.HttpClient",
+			TraversonClient.class.getClassLoader());
+
+	private final List<MediaType> mediaTypes;
+	private final RestOperations operations;
+	private final ClientHttpRequestFactory ownedRequestFactory;
+	private final LinkDiscoverers discoverers;
+
+	/**
+	 * Creates a new {@link TraversonClient} using the given {@link MediaType}s and the default transport.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public TraversonClient(MediaType... mediaTypes) {
+		this(Arrays.asList(mediaTypes));
+	}
+
+	/**
+	 * Creates a new {@link TraversonClient} using the given {@link MediaType}s and the default transport.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 */
+	public TraversonClient(List<MediaType> mediaTypes) {
+		this(mediaTypes, DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+	}
+
+	/**
+	 * Creates a new {@link TraversonClient} using the given {@link MediaType}s and the default transport with the given
+	 * connection pool limits. The limits only apply if Apache HttpClient is present on the classpath. Use the
+	 * {@code http.maxConnections} system property to tune the JDK's keep-alive cache otherwise.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 * @param maxConnections the maximum number of pooled connections in total, must be greater than zero.
+	 * @param maxConnectionsPerRoute the maximum number of pooled connections per route, must be greater than zero.
+	 */
+	public TraversonClient(List<MediaType> mediaTypes, int maxConnections, int maxConnectionsPerRoute) {
+		this(mediaTypes, createDefaultRequestFactory(maxConnections, maxConnectionsPerRoute), true, null);
+	}
+
+	/**
+	 * Creates a new {@link TraversonClient} using the given {@link MediaType}s and issuing requests through the given
+	 * {@link ClientHttpRequestFactory}. The {@link ClientHttpRequestFactory} is not released on {@link #close()}.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 * @param requestFactory must not be {@literal null}.
+	 */
+	public TraversonClient(List<MediaType> mediaTypes, ClientHttpRequestFactory requestFactory) {
+		this(mediaTypes, requestFactory, false, null);
+	}
+
+	/**
+	 * Creates a new {@link TraversonClient} using the given {@link MediaType}s, {@link ClientHttpRequestFactory} and
+	 * {@link LinkDiscoverer}s. The {@link ClientHttpRequestFactory} is not released on {@link #close()}.
+	 *
+	 * @param mediaTypes must not be {@literal null} or empty.
+	 * @param requestFactory must not be {@literal null}.
+	 * @param discoverers can be {@literal null}, a single {@link HalLinkDiscoverer} will be used in that case.
+	 */
+	public TraversonClient(List<MediaType> mediaTypes, ClientHttpRequestFactory requestFactory,
+			List<? extends LinkDiscoverer> discoverers) {
+		this(mediaTypes, requestFactory, false, discoverers);
+	}
+
+	private TraversonClient(List<MediaType> mediaTypes, ClientHttpRequestFactory requestFactory, boolean owned,
+			List<? extends LinkDiscoverer> discoverers) {
+
+		Assert.notEmpty(mediaTypes, "At least one media type must be given!");
+		Assert.notNull(requestFactory, "ClientHttpRequestFactory must not be null!");
+
+		this.mediaTypes = new ArrayList<>(mediaTypes);
+		this.operations = Traverson.createDefaultTemplate(this.mediaTypes, requestFactory);
+		this.ownedRequestFactory = owned ? requestFactory : null;
+		this.discoverers = new LinkDiscoverers(OrderAwarePluginRegistry.create(discoverers == null //
+				? Arrays.asList(new HalLinkDiscoverer()) //
+				: discoverers));
+	}
+
+	private static ClientHttpRequestFactory createDefaultRequestFactory(int maxConnections, int maxConnectionsPerRoute) {
+
+		Assert.isTrue(maxConnections > 0, "Maximum number of connections must be greater than zero!");
+		Assert.isTrue(maxConnectionsPerRoute > 0, "Maximum number of connections per route must be greater than zero!");
+
+		return HTTP_COMPONENTS_PRESENT //
+				? HttpComponentsRequestFactory.create(maxConnections, maxConnectionsPerRoute) //
+				: new SimpleClientHttpRequestFactory();
+	}
+
+	/**
+	 * Creates a new {@link Traverson} for the given base URI using the shared transport.
+	 *
+	 * @param baseUri must not be {@literal null}.
+	 * @return
+	 */
+	public Traverson traverson(URI baseUri) {
+		return new Traverson(baseUri, mediaTypes, operations, discoverers);
+	}
+
+	/**
+	 * Returns the {@link RestOperations} shared by all {@link Traverson} instances created by this client.
+	 *
+	 * @return
+	 */
+	public RestOperations getRestOperations() {
+		return operations;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() {
+
+		if (!(ownedRequestFactory instanceof DisposableBean)) {
+			return;
+		}
+
+		try {
+			((DisposableBean) ownedRequestFactory).destroy();
+		} catch (Exception o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * Separate class to only load Apache HttpClient types if present on the classpath.
+	 */
+	private static class HttpComponentsRequestFactory {
+
+		static ClientHttpRequestFactory create(int maxConnections, int maxConnectionsPerRoute) {
+
+			PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+			connectionManager.setMaxTotal(maxConnections);
+			connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+
+			HttpClient client = HttpClients.custom() //
+					.setConnectionManager(connectionManager) //
+					.useSystemProperties() //
+					.build();
+
+			return new HttpComponentsClientHttpRequestFactory(client);
+		}
+	}
+}
@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
@@ -40,7 +41,9 @@ import org.springframework.beans.factory.support.BeanDefinitionReaderUtils;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.RootBeanDefinition;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.hateoas.EntityLinks;
@@ -50,6 +53,7 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
 import org.springframework.hateoas.core.AnnotationRelProvider;
+import org.springframework.hateoas.core.CachingRelProvider;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.core.DelegatingRelProvider;
 import org.springframework.hateoas.core.EvoInflectorRelProvider;
@@ -57,6 +61,7 @@ import org.springframework.hateoas.hal.CurieProvider;
 import org.springframework.hateoas.hal.HalConfiguration;
 import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.hateoas.hal.Jackson2HalModule;
+import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 import org.springframework.hateoas.hal.forms.HalFormsConfiguration;
 import org.springframework.hateoas.hal.forms.HalFormsLinkDiscoverer;
 import org.springframework.hateoas.hal.forms.Jackson2HalFormsModule;
@@ -85,6 +90,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRegistrar, BeanFactoryAware {
 
 	private static final String DELEGATING_REL_PROVIDER_BEAN_NAME = "_relProvider";
+	private static final String UNCACHED_REL_PROVIDER_BEAN_NAME = "_uncachedRelProvider";
 	private static final String LINK_DISCOVERER_REGISTRY_BEAN_NAME = "_linkDiscovererRegistry";
 	private static final String HAL_OBJECT_MAPPER_BEAN_NAME = "_halObjectMapper";
 	private static final String HAL_FORMS_OBJECT_MAPPER_BEAN_NAME = "_halFormsObjectMapper";
@@ -168,7 +174,8 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 	
 	/**
 	 * Registers bean definitions for a {@link PluginRegistry} to capture {@link RelProvider} instances. Wraps the
-	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry.
+	 * registry into a {@link DelegatingRelProvider} bean definition backed by the registry and exposes that through a
+	 * {@link CachingRelProvider} as primary {@link RelProvider}.
 	 * 
 	 * @param registry
 	 */
@@ -184,7 +191,8 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder registryFactoryBeanBuilder = BeanDefinitionBuilder
 				.rootBeanDefinition(PluginRegistryFactoryBean.class);
 		registryFactoryBeanBuilder.addPropertyValue("type", RelProvider.class);
-		registryFactoryBeanBuilder.addPropertyValue("exclusions", DelegatingRelProvider.class);
+		registryFactoryBeanBuilder.addPropertyValue("exclusions",
+				new Class<?>[] { DelegatingRelProvider.class, CachingRelProvider.class });
 
 		AbstractBeanDefinition registryBeanDefinition = registryFactoryBeanBuilder.getBeanDefinition();
 		registry.registerBeanDefinition("relProviderPluginRegistry", registryBeanDefinition);
@@ -192,7 +200,13 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 		BeanDefinitionBuilder delegateBuilder = BeanDefinitionBuilder.rootBeanDefinition(DelegatingRelProvider.class);
 		delegateBuilder.addConstructorArgValue(registryBeanDefinition);
 
-		AbstractBeanDefinition beanDefinition = delegateBuilder.getBeanDefinition();
+		AbstractBeanDefinition delegateBeanDefinition = delegateBuilder.getBeanDefinition();
+		registry.registerBeanDefinition(UNCACHED_REL_PROVIDER_BEAN_NAME, delegateBeanDefinition);
+
+		BeanDefinitionBuilder cachingBuilder = BeanDefinitionBuilder.rootBeanDefinition(CachingRelProvider.class);
+		cachingBuilder.addConstructorArgReference(UNCACHED_REL_PROVIDER_BEAN_NAME);
+
+		AbstractBeanDefinition beanDefinition = cachingBuilder.getBeanDefinition();
 		beanDefinition.setPrimary(true);
 		registry.registerBeanDefinition(DELEGATING_REL_PROVIDER_BEAN_NAME, beanDefinition);
 	}
@@ -243,11 +257,15 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 
 	/**
 	 * {@link BeanPostProcessor} to register {@link Jackson2HalModule} with {@link ObjectMapper} instances registered in
-	 * the {@link ApplicationContext}.
+	 * the {@link ApplicationContext}. Drops the link relation titles cached by the {@link HalHandlerInstantiator}s set up
+	 * on refresh of the {@link ApplicationContext} so that reloaded messages get picked up.
 	 * 
 	 * @author Oliver Gierke
 	 */
-	static class Jackson2ModuleRegisteringBeanPostProcessor implements BeanPostProcessor, BeanFactoryAware {
+	static class Jackson2ModuleRegisteringBeanPostProcessor
+			implements BeanPostProcessor, BeanFactoryAware, ApplicationListener<ContextRefreshedEvent> {
+
+		private final List<HalHandlerInstantiator> instantiators = new CopyOnWriteArrayList<>();
 
 		private AutowireCapableBeanFactory beanFactory;
 
@@ -295,6 +313,15 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 			return bean;
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+		 */
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+			instantiators.forEach(HalHandlerInstantiator::clearLinkRelationTitles);
+		}
+
 		private List<HttpMessageConverter<?>> potentiallyRegisterModule(List<HttpMessageConverter<?>> converters) {
 
 			for (HttpMessageConverter<?> converter : converters) {
@@ -320,15 +347,20 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 
 				halObjectMapper.registerModule(new Jackson2HalModule());
 
+				HalHandlerInstantiator instantiator;
+
 				try {
 					HalConfiguration halConfiguration = beanFactory.getBean(HalConfiguration.class);
-					halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider,
-						linkRelationMessageSource, halConfiguration));
+					instantiator = new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider,
+						linkRelationMessageSource, halConfiguration);
 				} catch (BeansException e) {
-					halObjectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider,
-						linkRelationMessageSource, new HalConfiguration()));
+					instantiator = new Jackson2HalModule.HalHandlerInstantiator(relProvider, curieProvider,
+						linkRelationMessageSource, new HalConfiguration());
 				}
 
+				halObjectMapper.setHandlerInstantiator(instantiator);
+				instantiators.add(instantiator);
+
 				MappingJackson2HttpMessageConverter halConverter = new TypeConstrainedMappingJackson2HttpMessageConverter(
 					ResourceSupport.class);
 				halConverter.setSupportedMediaTypes(Arrays.asList(HAL_JSON, HAL_JSON_UTF8));
@@ -344,15 +376,20 @@ class HypermediaSupportBeanDefinitionRegistrar implements ImportBeanDefinitionRe
 
 				halFormsObjectMapper.registerModule(new Jackson2HalFormsModule());
 
+				HalHandlerInstantiator instantiator;
+
 				try {
 					HalFormsConfiguration halFormsConfiguration = beanFactory.getBean(HalFormsConfiguration.class);
-					halFormsObjectMapper.setHandlerInstantiator(new Jackson2HalFormsModule.HalFormsHandlerInstantiator(relProvider, curieProvider,
-						linkRelationMessageSource, true, halFormsConfiguration));
+					instantiator = new Jackson2HalFormsModule.HalFormsHandlerInstantiator(relProvider, curieProvider,
+						linkRelationMessageSource, true, halFormsConfiguration);
 				} catch (BeansException e) {
-					halFormsObjectMapper.setHandlerInstantiator(new Jackson2HalFormsModule.HalFormsHandlerInstantiator(relProvider, curieProvider,
-						linkRelationMessageSource, true, new HalFormsConfiguration()));
+					instantiator = new Jackson2HalFormsModule.HalFormsHandlerInstantiator(relProvider, curieProvider,
+						linkRelationMessageSource, true, new HalFormsConfiguration());
 				}
 
+				halFormsObjectMapper.setHandlerInstantiator(instantiator);
+				instantiators.add(instantiator);
+
 				MappingJackson2HttpMessageConverter halFormsConverter = new TypeConstrainedMappingJackson2HttpMessageConverter(
 						ResourceSupport.class);
 				halFormsConverter.setSupportedMediaTypes(Arrays.asList(HAL_FORMS_JSON));
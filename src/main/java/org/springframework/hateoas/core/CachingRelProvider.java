@@ -0,0 +1,84 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.hateoas.RelProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link RelProvider} caching the relations and support information obtained from a delegate {@link RelProvider} per
+ * type. Useful to avoid repeated plugin lookups within a {@link DelegatingRelProvider} or inflections of relation names
+ * as done by {@link EvoInflectorRelProvider}.
+ *
+ * @since 1.0
+ */
+public class CachingRelProvider implements RelProvider {
+
+	private final RelProvider delegate;
+
+	private final Map<Class<?>, Optional<String>> itemRels = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, Optional<String>> collectionRels = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, Boolean> supported = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingRelProvider} for the given delegate {@link RelProvider}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingRelProvider(RelProvider delegate) {
+
+		Assert.notNull(delegate, "Delegate RelProvider must not be null!");
+
+		this.delegate = delegate;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getItemResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getItemResourceRelFor(Class<?> type) {
+		return lookup(itemRels, type, delegate::getItemResourceRelFor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.RelProvider#getCollectionResourceRelFor(java.lang.Class)
+	 */
+	@Override
+	public String getCollectionResourceRelFor(Class<?> type) {
+		return lookup(collectionRels, type, delegate::getCollectionResourceRelFor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+	 */
+	@Override
+	public boolean supports(Class<?> delimiter) {
+		return supported.computeIfAbsent(delimiter, delegate::supports);
+	}
+
+	private static String lookup(Map<Class<?>, Optional<String>> cache, Class<?> type,
+			Function<Class<?>, String> resolver) {
+		return cache.computeIfAbsent(type, key -> Optional.ofNullable(resolver.apply(key))).orElse(null);
+	}
+}
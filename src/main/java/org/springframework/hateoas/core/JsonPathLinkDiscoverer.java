@@ -19,12 +19,18 @@ import net.minidev.json.JSONArray;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.hateoas.Link;
@@ -32,9 +38,10 @@ import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.StringUtils;
 
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.InvalidPathException;
 import com.jayway.jsonpath.JsonPath;
 
@@ -45,12 +52,14 @@ import com.jayway.jsonpath.JsonPath;
  */
 public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 
-	private static Method compileMethod;
-	private static Object emptyFilters;
+	private static final int EXPRESSION_CACHE_LIMIT = 256;
+	private static final MethodHandle COMPILE;
 
 	static {
 
-		// Reflective bridging between JsonPath 0.9.x and 1.x
+		MethodHandle compile = null;
+
+		// Bridging between JsonPath 0.9.x and 1.x, resolving to a handle taking the expression only
 		for (Method candidate : JsonPath.class.getMethods()) {
 
 			if (candidate.getName().equals("compile")) {
@@ -58,18 +67,29 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 				Class<?>[] paramTypes = candidate.getParameterTypes();
 
 				if (paramTypes.length == 2 && paramTypes[0].equals(String.class) && paramTypes[1].isArray()) {
-					compileMethod = candidate;
-					emptyFilters = Array.newInstance(paramTypes[1].getComponentType(), 0);
+
+					Object emptyFilters = Array.newInstance(paramTypes[1].getComponentType(), 0);
+
+					try {
+						compile = MethodHandles.insertArguments(
+								MethodHandles.publicLookup().unreflect(candidate).asFixedArity(), 1, emptyFilters);
+					} catch (IllegalAccessException o_O) {
+						throw new IllegalStateException(o_O);
+					}
+
 					break;
 				}
 			}
 		}
 
-		Assert.state(compileMethod != null, "Unexpected JsonPath API - no compile(String, ...) method found");
+		Assert.state(compile != null, "Unexpected JsonPath API - no compile(String, ...) method found");
+
+		COMPILE = compile;
 	}
 
 	private final String pathTemplate;
 	private final List<MediaType> mediaTypes;
+	private final Map<String, JsonPath> expressions = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link JsonPathLinkDiscoverer} using the given path template supporting the given {@link MediaType}.
@@ -148,14 +168,89 @@ public class JsonPathLinkDiscoverer implements LinkDiscoverer {
 		}
 	}
 
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
+	 */
+	@Override
+	public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relations must not be null!");
+
+		return findLinksWithRels(rels, Configuration.defaultConfiguration().jsonProvider().parse(representation));
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.LinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
+	 */
+	@Override
+	public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(rels, "Relations must not be null!");
+
+		Object document = Configuration.defaultConfiguration().jsonProvider().parse(representation,
+				StandardCharsets.UTF_8.name());
+
+		return findLinksWithRels(rels, document);
+	}
+
+	/**
+	 * Evaluates the expressions for all given relation types against the given, already parsed document.
+	 * 
+	 * @param rels must not be {@literal null}.
+	 * @param document must not be {@literal null}.
+	 * @return
+	 */
+	private Map<String, List<Link>> findLinksWithRels(Collection<String> rels, Object document) {
+
+		Map<String, List<Link>> result = new LinkedHashMap<>(rels.size());
+
+		for (String rel : rels) {
+
+			try {
+				result.put(rel, createLinksFrom(getExpression(rel).read(document), rel));
+			} catch (InvalidPathException o_O) {
+				result.put(rel, Collections.emptyList());
+			}
+		}
+
+		return result;
+	}
+
 	/**
-	 * Returns the {@link JsonPath} to find links with the given relation type.
+	 * Returns the {@link JsonPath} to find links with the given relation type. Compiled expressions are cached for a
+	 * limited number of relations.
 	 * 
 	 * @param rel
 	 * @return
 	 */
 	private JsonPath getExpression(String rel) {
-		return (JsonPath) ReflectionUtils.invokeMethod(compileMethod, null, String.format(pathTemplate, rel), emptyFilters);
+
+		JsonPath expression = expressions.get(rel);
+
+		if (expression != null) {
+			return expression;
+		}
+
+		expression = compile(String.format(pathTemplate, rel));
+
+		if (expressions.size() < EXPRESSION_CACHE_LIMIT) {
+			expressions.put(rel, expression);
+		}
+
+		return expression;
+	}
+
+	private static JsonPath compile(String expression) {
+
+		try {
+			return (JsonPath) COMPILE.invoke(expression);
+		} catch (RuntimeException | Error o_O) {
+			throw o_O;
+		} catch (Throwable o_O) {
+			throw new IllegalStateException(o_O);
+		}
 	}
 
 	/**
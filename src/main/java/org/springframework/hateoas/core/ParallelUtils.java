@@ -0,0 +1,140 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import lombok.experimental.UtilityClass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.function.UnaryOperator;
+
+import org.springframework.util.Assert;
+
+/**
+ * Utilities to process indexed work items in parallel.
+ *
+ * @since 1.0
+ */
+@UtilityClass
+public class ParallelUtils {
+
+	/**
+	 * Invokes the given action for all indexes up to the given size with at most the given number of workers. Each worker
+	 * picks up the next pending index until all have been processed. The calling thread acts as one of the workers, the
+	 * other ones are run on the given {@link Executor}.
+	 *
+	 * @param size the number of indexes.
+	 * @param parallelism the maximum number of workers, must be greater than zero.
+	 * @param executor must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @see #forEachIndex(int, int, Executor, UnaryOperator, IntConsumer)
+	 */
+	public static void forEachIndex(int size, int parallelism, Executor executor, IntConsumer action) {
+		forEachIndex(size, parallelism, executor, UnaryOperator.identity(), action);
+	}
+
+	/**
+	 * Invokes the given action for all indexes up to the given size with at most the given number of workers. Each worker
+	 * picks up the next pending index until all have been processed. The calling thread acts as one of the workers, the
+	 * other ones are decorated with the given {@link UnaryOperator}, e.g. to bind thread-local state, and run on the
+	 * given {@link Executor}.
+	 * <p>
+	 * The first failure stops the remaining indexes from being picked up. No matter whether processing succeeds or
+	 * fails, the method only returns once all workers have finished, so that none of them outlives the state of the
+	 * calling thread. A failure of the calling thread takes precedence over ones of the other workers.
+	 *
+	 * @param size the number of indexes.
+	 * @param parallelism the maximum number of workers, must be greater than zero.
+	 * @param executor must not be {@literal null}.
+	 * @param decorator applied to the workers run on the {@link Executor}, must not be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 */
+	public static void forEachIndex(int size, int parallelism, Executor executor, UnaryOperator<Runnable> decorator,
+			IntConsumer action) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.notNull(decorator, "Decorator must not be null!");
+		Assert.notNull(action, "Action must not be null!");
+
+		AtomicInteger next = new AtomicInteger();
+
+		Runnable worker = () -> {
+
+			for (int index = next.getAndIncrement(); index < size; index = next.getAndIncrement()) {
+
+				try {
+					action.accept(index);
+				} catch (RuntimeException | Error o_O) {
+					next.set(size);
+					throw o_O;
+				}
+			}
+		};
+
+		int workers = Math.min(parallelism, size);
+		List<CompletableFuture<Void>> futures = new ArrayList<CompletableFuture<Void>>(workers);
+		RuntimeException failure;
+
+		try {
+
+			for (int i = 1; i < workers; i++) {
+				futures.add(CompletableFuture.runAsync(decorator.apply(worker), executor));
+			}
+
+			worker.run();
+
+		} finally {
+
+			next.set(size);
+			failure = awaitAll(futures);
+		}
+
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	/**
+	 * Waits for all given {@link CompletableFuture}s to complete.
+	 *
+	 * @param futures must not be {@literal null}.
+	 * @return the first failure or {@literal null} if all futures completed normally.
+	 */
+	private static RuntimeException awaitAll(List<CompletableFuture<Void>> futures) {
+
+		RuntimeException failure = null;
+
+		for (CompletableFuture<Void> future : futures) {
+
+			try {
+				future.join();
+			} catch (CompletionException o_O) {
+
+				if (failure == null) {
+					failure = o_O.getCause() instanceof RuntimeException ? (RuntimeException) o_O.getCause() : o_O;
+				}
+			}
+		}
+
+		return failure;
+	}
+}
@@ -90,9 +90,15 @@ class HalEmbeddedBuilder {
 			return;
 		}
 
-		List<Object> list = new ArrayList<Object>();
+		// Lists are only ever added by us so that we can append to them directly
+		if (currentValue instanceof EmbeddedList && collectionOrItemRel.equals(collectionRel)) {
+			((EmbeddedList) currentValue).addAll(asCollection(value));
+			return;
+		}
+
+		List<Object> list = new EmbeddedList();
 		list.addAll(asCollection(currentValue));
-		list.addAll(asCollection(wrapper.getValue()));
+		list.addAll(asCollection(value));
 
 		embeddeds.remove(collectionOrItemRel);
 		embeddeds.put(collectionRel, list);
@@ -139,4 +145,26 @@ class HalEmbeddedBuilder {
 	public Map<String, Object> asMap() {
 		return Collections.unmodifiableMap(embeddeds);
 	}
+
+	/**
+	 * Returns whether any of the relations the objects were added under is a curied one.
+	 * 
+	 * @return
+	 */
+	public boolean hasCuriedRel() {
+
+		for (String rel : embeddeds.keySet()) {
+			if (rel.contains(":")) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Marker type for the {@link List}s created to collect multiple objects under a collection relation.
+	 */
+	@SuppressWarnings("serial")
+	private static class EmbeddedList extends ArrayList<Object> {}
 }
@@ -15,18 +15,82 @@
  */
 package org.springframework.hateoas.hal;
 
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
+import org.springframework.http.MediaType;
+import org.springframework.util.ClassUtils;
 
 /**
- * {@link LinkDiscoverer} implementation based on HAL link structure.
+ * {@link LinkDiscoverer} implementation based on HAL link structure. Uses a streaming Jackson parser that only inspects
+ * the top level {@literal _links} object if Jackson is present and falls back to evaluating a JsonPath expression
+ * otherwise.
  * 
  * @author Oliver Gierke
  */
 public class HalLinkDiscoverer extends JsonPathLinkDiscoverer {
 
+	private static final boolean JACKSON2_PRESENT = ClassUtils.isPresent("com.fasterxml.jackson.core.JsonParser",
+			HalLinkDiscoverer.class.getClassLoader());
+
+	private final HalLinkReader reader;
+
 	public HalLinkDiscoverer() {
-		super("$._links..['%s']..href", MediaTypes.HAL_JSON);
+		this(MediaTypes.HAL_JSON);
+	}
+
+	/**
+	 * Creates a new {@link HalLinkDiscoverer} supporting the given {@link MediaType}s.
+	 * 
+	 * @param mediaType must not be {@literal null}.
+	 * @param others must not be {@literal null}.
+	 */
+	protected HalLinkDiscoverer(MediaType mediaType, MediaType... others) {
+
+		super("$._links..['%s']..href", mediaType, others);
+
+		this.reader = JACKSON2_PRESENT ? new HalLinkReader() : null;
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.lang.String)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, String representation) {
+		return reader == null ? super.findLinksWithRel(rel, representation) : reader.read(rel, representation);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRel(java.lang.String, java.io.InputStream)
+	 */
+	@Override
+	public List<Link> findLinksWithRel(String rel, InputStream representation) {
+		return reader == null ? super.findLinksWithRel(rel, representation) : reader.read(rel, representation);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.lang.String)
+	 */
+	@Override
+	public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, String representation) {
+		return reader == null ? super.findLinksWithRels(rels, representation) : reader.read(rels, representation);
+	}
+
+	/* 
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.core.JsonPathLinkDiscoverer#findLinksWithRels(java.util.Collection, java.io.InputStream)
+	 */
+	@Override
+	public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, InputStream representation) {
+		return reader == null ? super.findLinksWithRels(rels, representation) : reader.read(rels, representation);
 	}
 }
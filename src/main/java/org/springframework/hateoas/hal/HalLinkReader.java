@@ -0,0 +1,222 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.hateoas.Link;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads {@link Link}s from a HAL representation using a streaming {@link JsonParser}. Only the top level
+ * {@literal _links} object is inspected, all other properties (e.g. {@literal _embedded}) are skipped without being
+ * materialized and the parser stops once the links have been read. Thus the effort is proportional to the size of the
+ * {@literal _links} block rather than the one of the entire document.
+ *
+ * @see HalLinkDiscoverer
+ */
+class HalLinkReader {
+
+	private static final String LINKS = "_links";
+	private static final String HREF = "href";
+
+	private static final JsonFactory FACTORY = new JsonFactory() //
+			.enable(JsonParser.Feature.ALLOW_UNQUOTED_FIELD_NAMES) //
+			.enable(JsonParser.Feature.ALLOW_SINGLE_QUOTES) //
+			.enable(JsonParser.Feature.ALLOW_TRAILING_COMMA);
+
+	/**
+	 * Returns all {@link Link}s with the given relation from the given representation.
+	 *
+	 * @param rel must not be {@literal null} or empty.
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	List<Link> read(String rel, String representation) {
+
+		Assert.hasText(rel, "Relation must not be null or empty!");
+
+		return read(Collections.singleton(rel), representation).get(rel);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relation from the given representation.
+	 *
+	 * @param rel must not be {@literal null} or empty.
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	List<Link> read(String rel, InputStream representation) {
+
+		Assert.hasText(rel, "Relation must not be null or empty!");
+
+		return read(Collections.singleton(rel), representation).get(rel);
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relations from the given representation, reading it only once.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	Map<String, List<Link>> read(Collection<String> rels, String representation) {
+
+		Assert.notNull(rels, "Relations must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(representation)) {
+			return read(rels, parser);
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	/**
+	 * Returns all {@link Link}s with the given relations from the given representation, reading it only once.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param representation must not be {@literal null}.
+	 * @return
+	 */
+	Map<String, List<Link>> read(Collection<String> rels, InputStream representation) {
+
+		Assert.notNull(rels, "Relations must not be null!");
+		Assert.notNull(representation, "Representation must not be null!");
+
+		try (JsonParser parser = FACTORY.createParser(representation)) {
+			return read(rels, parser);
+		} catch (IOException o_O) {
+			throw new RuntimeException(o_O);
+		}
+	}
+
+	/**
+	 * Reads the {@link Link}s for all of the given relations from the given {@link JsonParser}.
+	 *
+	 * @param rels must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @return a {@link Map} containing an unmodifiable {@link List} for each of the given relations, in the order of the
+	 *         given relations.
+	 * @throws IOException
+	 */
+	private static Map<String, List<Link>> read(Collection<String> rels, JsonParser parser) throws IOException {
+
+		Map<String, List<Link>> result = new LinkedHashMap<>(rels.size());
+
+		for (String rel : rels) {
+			result.put(rel, new ArrayList<>());
+		}
+
+		if (parser.nextToken() == JsonToken.START_OBJECT) {
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String name = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+
+				if (LINKS.equals(name) && token == JsonToken.START_OBJECT) {
+					readLinks(parser, result);
+					break;
+				}
+
+				parser.skipChildren();
+			}
+		}
+
+		result.replaceAll((rel, links) -> Collections.unmodifiableList(links));
+
+		return result;
+	}
+
+	/**
+	 * Reads the {@link Link}s of the relations contained in the given {@link Map} from the {@literal _links} object the
+	 * given {@link JsonParser} is positioned at.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param links must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void readLinks(JsonParser parser, Map<String, List<Link>> links) throws IOException {
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String rel = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+			List<Link> target = links.get(rel);
+
+			if (target == null) {
+				parser.skipChildren();
+				continue;
+			}
+
+			if (token == JsonToken.START_OBJECT) {
+				addLink(parser, rel, target);
+			} else if (token == JsonToken.START_ARRAY) {
+
+				while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+
+					if (token == JsonToken.START_OBJECT) {
+						addLink(parser, rel, target);
+					} else {
+						parser.skipChildren();
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the link object the given {@link JsonParser} is positioned at and adds a {@link Link} to the given target if
+	 * it contains an {@literal href}.
+	 *
+	 * @param parser must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @throws IOException
+	 */
+	private static void addLink(JsonParser parser, String rel, List<Link> target) throws IOException {
+
+		String href = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String name = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if (HREF.equals(name) && token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+				href = parser.getText();
+			} else {
+				parser.skipChildren();
+			}
+		}
+
+		if (href != null) {
+			target.add(new Link(href, rel));
+		}
+	}
+}
@@ -15,20 +15,24 @@
  */
 package org.springframework.hateoas.hal;
 
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
 import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
-import org.springframework.context.NoSuchMessageException;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
@@ -36,6 +40,7 @@ import org.springframework.hateoas.RelProvider;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.core.CachingRelProvider;
 import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.util.Assert;
 
@@ -60,6 +65,7 @@ import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.KeyDeserializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.cfg.HandlerInstantiator;
 import com.fasterxml.jackson.databind.cfg.MapperConfig;
@@ -73,7 +79,6 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.ContainerSerializer;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
-import com.fasterxml.jackson.databind.ser.std.MapSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
@@ -119,14 +124,17 @@ public class Jackson2HalModule extends SimpleModule {
 
 		private static final long serialVersionUID = -1844788111509966406L;
 
-		private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+		private static final String CURIES_REL = "curies";
 
 		private final BeanProperty property;
 		private final CurieProvider curieProvider;
 		private final EmbeddedMapper mapper;
-		private final MessageSourceAccessor accessor;
+		private final LinkRelationTitles titles;
 		private final HalConfiguration halConfiguration;
 
+		private transient JsonSerializer<Object> linkSerializer;
+		private transient JsonSerializer<Object> halLinkSerializer;
+
 		public HalLinkListSerializer(CurieProvider curieProvider, EmbeddedMapper mapper, MessageSourceAccessor accessor,
 				HalConfiguration halConfiguration) {
 			this(null, curieProvider, mapper, accessor, halConfiguration);
@@ -134,13 +142,18 @@ public class Jackson2HalModule extends SimpleModule {
 
 		public HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
 				MessageSourceAccessor accessor, HalConfiguration halConfiguration) {
+			this(property, curieProvider, mapper, new LinkRelationTitles(accessor), halConfiguration);
+		}
+
+		private HalLinkListSerializer(BeanProperty property, CurieProvider curieProvider, EmbeddedMapper mapper,
+				LinkRelationTitles titles, HalConfiguration halConfiguration) {
 
 			super(TypeFactory.defaultInstance().constructType(List.class));
 
 			this.property = property;
 			this.curieProvider = curieProvider;
 			this.mapper = mapper;
-			this.accessor = accessor;
+			this.titles = titles;
 			this.halConfiguration = halConfiguration;
 		}
 
@@ -148,7 +161,7 @@ public class Jackson2HalModule extends SimpleModule {
 		 * Needed to support Jackson
 		 */
 		HalLinkListSerializer() {
-			this(null, null, null, null, new HalConfiguration().withRenderSingleLinks(RenderSingleLinks.AS_SINGLE));
+			this(null, null, null, (MessageSourceAccessor) null, new HalConfiguration().withRenderSingleLinks(RenderSingleLinks.AS_SINGLE));
 		}
 
 		/*
@@ -159,25 +172,21 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(List<Link> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			// sort links according to their relation
-			Map<String, List<Object>> sortedLinks = new LinkedHashMap<>();
-			List<Link> links = new ArrayList<>();
+			int size = value.size();
+			Link[] links = new Link[size];
+			String[] rels = new String[size];
 
 			boolean prefixingRequired = curieProvider != null;
 			boolean curiedLinkPresent = false;
 			boolean skipCuries = !jgen.getOutputContext().getParent().inRoot();
 
-			Object currentValue = jgen.getCurrentValue();
-
-			if (currentValue instanceof Resources) {
-				if (mapper.hasCuriedEmbed((Resources<?>) currentValue)) {
-					curiedLinkPresent = true;
-				}
-			}
+			int index = 0;
 
 			for (Link link : value) {
 
+				// Added by HalResourcesSerializer as _embedded is rendered before _links (see ResourcesMixin)
 				if (link.equals(CURIES_REQUIRED_DUE_TO_EMBEDS)) {
+					curiedLinkPresent = true;
 					continue;
 				}
 
@@ -187,66 +196,167 @@ public class Jackson2HalModule extends SimpleModule {
 					curiedLinkPresent = true;
 				}
 
-				sortedLinks //
-						.computeIfAbsent(rel, key -> new ArrayList<>())//
-						.add(toHalLink(link));
+				links[index] = link;
+				rels[index++] = rel;
+			}
+
+			LinkGroups groups = new LinkGroups(links, rels, index);
+			boolean renderCuries = !skipCuries && prefixingRequired && curiedLinkPresent;
+
+			jgen.writeStartObject(value);
+
+			if (provider.isEnabled(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)) {
+
+				Set<String> sortedRels = groups.getRels();
+
+				if (renderCuries) {
+					sortedRels.add(CURIES_REL);
+				}
+
+				for (String rel : sortedRels) {
+
+					if (renderCuries && CURIES_REL.equals(rel)) {
+						writeCuries(groups, jgen, provider);
+					} else {
+						writeGroup(groups, groups.indexOf(rel), jgen, provider);
+					}
+				}
+
+			} else {
 
-				links.add(link);
+				for (int i = 0; i < groups.size(); i++) {
+
+					if (groups.isFirstOfRel(i) && !(renderCuries && CURIES_REL.equals(groups.getRel(i)))) {
+						writeGroup(groups, i, jgen, provider);
+					}
+				}
+
+				if (renderCuries) {
+					writeCuries(groups, jgen, provider);
+				}
 			}
 
-			if (!skipCuries && prefixingRequired && curiedLinkPresent) {
+			jgen.writeEndObject();
+		}
+
+		/**
+		 * Writes all {@link Link}s sharing the relation of the {@link Link} at the given index, which has to be the first
+		 * one with that relation. A single link is rendered as object unless configured otherwise in the
+		 * {@link HalConfiguration}.
+		 * 
+		 * @param groups must not be {@literal null}.
+		 * @param first the index of the first {@link Link} of the relation.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
+		 */
+		private void writeGroup(LinkGroups groups, int first, JsonGenerator jgen, SerializerProvider provider)
+				throws IOException {
 
-				ArrayList<Object> curies = new ArrayList<>();
-				curies.add(curieProvider.getCurieInformation(new Links(links)));
+			String rel = groups.getRel(first);
+			jgen.writeFieldName(rel);
 
-				sortedLinks.put("curies", curies);
+			if (!groups.hasFollowingWithSameRel(first) && renderSingleLinksAsObject()) {
+				writeLink(groups.getLink(first), jgen, provider);
+				return;
 			}
 
-			TypeFactory typeFactory = provider.getConfig().getTypeFactory();
-			JavaType keyType = typeFactory.constructType(String.class);
-			JavaType valueType = typeFactory.constructCollectionType(ArrayList.class, Object.class);
-			JavaType mapType = typeFactory.constructMapType(HashMap.class, keyType, valueType);
+			jgen.writeStartArray();
 
-			MapSerializer serializer = MapSerializer.construct(Collections.<String> emptySet(), mapType, true, null,
-					provider.findKeySerializer(keyType, null), new OptionalListJackson2Serializer(property, halConfiguration), null);
+			for (int i = first; i < groups.size(); i++) {
+				if (rel.equals(groups.getRel(i))) {
+					writeLink(groups.getLink(i), jgen, provider);
+				}
+			}
 
-			serializer.serialize(sortedLinks, jgen, provider);
+			jgen.writeEndArray();
 		}
 
 		/**
-		 * Wraps the given link into a HAL specific extension.
+		 * Writes the curie information for the given {@link Link}s.
 		 * 
-		 * @param link must not be {@literal null}.
-		 * @return
+		 * @param groups must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
 		 */
-		private HalLink toHalLink(Link link) {
+		private void writeCuries(LinkGroups groups, JsonGenerator jgen, SerializerProvider provider) throws IOException {
 
-			String rel = link.getRel();
-			String title = getTitle(rel);
+			Object curies = curieProvider.getCurieInformation(new Links(groups.getLinks()));
 
-			if (title == null) {
-				title = getTitle(rel.contains(":") ? rel.substring(rel.indexOf(":") + 1) : rel);
+			jgen.writeFieldName(CURIES_REL);
+
+			boolean renderAsObject = renderSingleLinksAsObject();
+
+			if (!renderAsObject) {
+				jgen.writeStartArray();
 			}
 
-			return new HalLink(link, title);
+			if (curies == null) {
+				provider.defaultSerializeNull(jgen);
+			} else {
+				provider.findValueSerializer(curies.getClass(), property).serialize(curies, jgen, provider);
+			}
+
+			if (!renderAsObject) {
+				jgen.writeEndArray();
+			}
 		}
 
 		/**
-		 * Returns the title for the given local link relation resolved through the configured {@link MessageSourceAccessor}
-		 * .
+		 * Writes the given {@link Link} using the pre-resolved serializers. Links with a title resolved from the
+		 * {@link MessageSourceAccessor} are wrapped into a {@link HalLink}.
 		 * 
-		 * @param localRel must not be {@literal null} or empty.
-		 * @return
+		 * @param link must not be {@literal null}.
+		 * @param jgen must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @throws IOException
 		 */
-		private String getTitle(String localRel) {
+		private void writeLink(Link link, JsonGenerator jgen, SerializerProvider provider) throws IOException {
+
+			String title = titles.getTitle(link);
+
+			if (title == null) {
+				getLinkSerializer(provider).serialize(link, jgen, provider);
+			} else {
+				getHalLinkSerializer(provider).serialize(new HalLink(link, title), jgen, provider);
+			}
+		}
+
+		private boolean renderSingleLinksAsObject() {
+			return halConfiguration.getRenderSingleLinks() == RenderSingleLinks.AS_SINGLE;
+		}
+
+		private JsonSerializer<Object> getLinkSerializer(SerializerProvider provider) throws JsonMappingException {
+
+			JsonSerializer<Object> serializer = this.linkSerializer;
+
+			if (serializer == null) {
+				serializer = provider.findValueSerializer(Link.class, property);
+				this.linkSerializer = serializer;
+			}
+
+			return serializer;
+		}
+
+		private JsonSerializer<Object> getHalLinkSerializer(SerializerProvider provider) throws JsonMappingException {
 
-			Assert.hasText(localRel, "Local relation must not be null or empty!");
+			JsonSerializer<Object> serializer = this.halLinkSerializer;
 
-			try {
-				return accessor == null ? null : accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, localRel));
-			} catch (NoSuchMessageException o_O) {
-				return null;
+			if (serializer == null) {
+				serializer = provider.findValueSerializer(HalLink.class, property);
+				this.halLinkSerializer = serializer;
 			}
+
+			return serializer;
+		}
+
+		/**
+		 * Drops all link relation titles cached so far. To be invoked if the messages backing the
+		 * {@link MessageSourceAccessor} the serializer was set up with have been reloaded.
+		 */
+		public void clearTitleCache() {
+			titles.clear();
 		}
 
 		/*
@@ -256,7 +366,14 @@ public class Jackson2HalModule extends SimpleModule {
 		@Override
 		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property)
 				throws JsonMappingException {
-			return new HalLinkListSerializer(property, curieProvider, mapper, accessor, halConfiguration);
+
+			HalLinkListSerializer serializer = new HalLinkListSerializer(property, curieProvider, mapper, titles,
+					halConfiguration);
+
+			serializer.linkSerializer = provider.findValueSerializer(Link.class, property);
+			serializer.halLinkSerializer = provider.findValueSerializer(HalLink.class, property);
+
+			return serializer;
 		}
 
 		/*
@@ -340,18 +457,18 @@ public class Jackson2HalModule extends SimpleModule {
 		public void serialize(Collection<?> value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			Map<String, Object> embeddeds = embeddedMapper.map(value);
+			EmbeddedMapping mapping = embeddedMapper.mapEmbeddeds(value);
 
 			Object currentValue = jgen.getCurrentValue();
 
 			if (currentValue instanceof ResourceSupport) {
 
-				if (embeddedMapper.hasCuriedEmbed(value)) {
+				if (mapping.isCuried()) {
 					((ResourceSupport) currentValue).add(CURIES_REQUIRED_DUE_TO_EMBEDS);
 				}
 			}
 
-			provider.findValueSerializer(Map.class, property).serialize(embeddeds, jgen, provider);
+			provider.findValueSerializer(Map.class, property).serialize(mapping.getEmbeddeds(), jgen, provider);
 		}
 
 		@Override
@@ -726,6 +843,14 @@ public class Jackson2HalModule extends SimpleModule {
 					new HalLinkListSerializer(curieProvider, mapper, accessor, halConfiguration));
 		}
 
+		/**
+		 * Drops the link relation titles cached by the {@link HalLinkListSerializer}. To be invoked if the messages backing
+		 * the {@link MessageSourceAccessor} handed into the instantiator have been reloaded.
+		 */
+		public void clearLinkRelationTitles() {
+			((HalLinkListSerializer) serializers.get(HalLinkListSerializer.class)).clearTitleCache();
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see com.fasterxml.jackson.databind.cfg.HandlerInstantiator#deserializerInstance(com.fasterxml.jackson.databind.DeserializationConfig, com.fasterxml.jackson.databind.introspect.Annotated, java.lang.Class)
@@ -844,7 +969,6 @@ public class Jackson2HalModule extends SimpleModule {
 	public static class EmbeddedMapper {
 
 		private RelProvider relProvider;
-		private CurieProvider curieProvider;
 		private boolean preferCollectionRels;
 
 		/**
@@ -859,8 +983,8 @@ public class Jackson2HalModule extends SimpleModule {
 
 			Assert.notNull(relProvider, "RelProvider must not be null!");
 
-			this.relProvider = relProvider;
-			this.curieProvider = curieProvider;
+			this.relProvider = new CachingRelProvider(
+					curieProvider == null ? relProvider : new CurieNamespacingRelProvider(relProvider, curieProvider));
 			this.preferCollectionRels = preferCollectionRels;
 		}
 
@@ -871,16 +995,27 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public Map<String, Object> map(Iterable<?> source) {
+			return mapEmbeddeds(source).getEmbeddeds();
+		}
+
+		/**
+		 * Maps the given source elements as embedded values and captures whether any of the relations used is a curied
+		 * one, so that both can be obtained from a single pass over the elements.
+		 * 
+		 * @param source must not be {@literal null}.
+		 * @return
+		 */
+		public EmbeddedMapping mapEmbeddeds(Iterable<?> source) {
 
 			Assert.notNull(source, "Elements must not be null!");
 
-			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, curieProvider, preferCollectionRels);
+			HalEmbeddedBuilder builder = new HalEmbeddedBuilder(relProvider, null, preferCollectionRels);
 
 			for (Object resource : source) {
 				builder.add(resource);
 			}
 
-			return builder.asMap();
+			return new EmbeddedMapping(builder.asMap(), builder.hasCuriedRel());
 		}
 
 		/**
@@ -890,9 +1025,161 @@ public class Jackson2HalModule extends SimpleModule {
 		 * @return
 		 */
 		public boolean hasCuriedEmbed(Iterable<?> source) {
+			return mapEmbeddeds(source).isCuried();
+		}
+	}
+
+	/**
+	 * {@link RelProvider} to namespace the relations obtained from a delegate using a {@link CurieProvider}.
+	 */
+	@RequiredArgsConstructor
+	private static class CurieNamespacingRelProvider implements RelProvider {
+
+		private final @NonNull RelProvider delegate;
+		private final @NonNull CurieProvider curieProvider;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.RelProvider#getItemResourceRelFor(java.lang.Class)
+		 */
+		@Override
+		public String getItemResourceRelFor(Class<?> type) {
+			return curieProvider.getNamespacedRelFor(delegate.getItemResourceRelFor(type));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.RelProvider#getCollectionResourceRelFor(java.lang.Class)
+		 */
+		@Override
+		public String getCollectionResourceRelFor(Class<?> type) {
+			return curieProvider.getNamespacedRelFor(delegate.getCollectionResourceRelFor(type));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
+		 */
+		@Override
+		public boolean supports(Class<?> delimiter) {
+			return delegate.supports(delimiter);
+		}
+	}
+
+	/**
+	 * The embedded values keyed by relation as produced by an {@link EmbeddedMapper} alongside the information whether
+	 * any of the relations is a curied one.
+	 * 
+	 * @since 1.0
+	 */
+	@Value
+	public static class EmbeddedMapping {
+
+		Map<String, Object> embeddeds;
+		boolean curied;
+	}
+
+	/**
+	 * The {@link Link}s to render alongside the relations they're rendered under. Links of the same relation are grouped
+	 * by scanning the list which is cheaper than building up a map for the handful of links a representation usually
+	 * carries.
+	 */
+	private static class LinkGroups {
+
+		private final Link[] links;
+		private final String[] rels;
+		private final int size;
+
+		/**
+		 * Creates a new {@link LinkGroups} for the first {@code size} elements of the given arrays.
+		 * 
+		 * @param links must not be {@literal null}.
+		 * @param rels must not be {@literal null}.
+		 * @param size
+		 */
+		LinkGroups(Link[] links, String[] rels, int size) {
+
+			this.links = links;
+			this.rels = rels;
+			this.size = size;
+		}
+
+		int size() {
+			return size;
+		}
 
-			return map(source).keySet().stream() //
-					.anyMatch(rel -> rel.contains(":"));
+		Link getLink(int index) {
+			return links[index];
+		}
+
+		String getRel(int index) {
+			return rels[index];
+		}
+
+		List<Link> getLinks() {
+			return Arrays.asList(links).subList(0, size);
+		}
+
+		/**
+		 * Returns all distinct relations sorted by their natural order.
+		 * 
+		 * @return
+		 */
+		Set<String> getRels() {
+
+			Set<String> result = new TreeSet<>();
+
+			for (int i = 0; i < size; i++) {
+				result.add(rels[i]);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Returns the index of the first {@link Link} with the given relation or -1 if none found.
+		 * 
+		 * @param rel must not be {@literal null}.
+		 * @return
+		 */
+		int indexOf(String rel) {
+
+			for (int i = 0; i < size; i++) {
+				if (rel.equals(rels[i])) {
+					return i;
+				}
+			}
+
+			return -1;
+		}
+
+		/**
+		 * Returns whether the {@link Link} with the given index is the first one of its relation.
+		 * 
+		 * @param index
+		 * @return
+		 */
+		boolean isFirstOfRel(int index) {
+			return indexOf(rels[index]) == index;
+		}
+
+		/**
+		 * Returns whether there's another {@link Link} with the same relation after the given index.
+		 * 
+		 * @param index
+		 * @return
+		 */
+		boolean hasFollowingWithSameRel(int index) {
+
+			String rel = rels[index];
+
+			for (int i = index + 1; i < size; i++) {
+				if (rel.equals(rels[i])) {
+					return true;
+				}
+			}
+
+			return false;
 		}
 	}
 
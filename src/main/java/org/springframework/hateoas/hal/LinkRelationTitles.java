@@ -0,0 +1,105 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.hateoas.Link;
+import org.springframework.util.Assert;
+
+/**
+ * Resolves the titles of link relations from a {@link MessageSourceAccessor} and caches them per {@link Locale}.
+ * Relations without a title are cached as well, as that's the common case and looking them up again would hit the
+ * {@link org.springframework.context.MessageSource} for every link rendered.
+ *
+ * @see #clear()
+ */
+class LinkRelationTitles {
+
+	private static final String RELATION_MESSAGE_TEMPLATE = "_links.%s.title";
+
+	private final MessageSourceAccessor accessor;
+	private final Map<Locale, Map<String, Optional<String>>> titles;
+
+	/**
+	 * Creates a new {@link LinkRelationTitles} for the given {@link MessageSourceAccessor}.
+	 *
+	 * @param accessor can be {@literal null}.
+	 */
+	LinkRelationTitles(MessageSourceAccessor accessor) {
+
+		this.accessor = accessor;
+		this.titles = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the title to render for the given {@link Link}, looking it up for the full relation first and falling back
+	 * to the local part of a curied one.
+	 *
+	 * @param link must not be {@literal null}.
+	 * @return the title or {@literal null} if none is configured.
+	 */
+	String getTitle(Link link) {
+
+		Assert.notNull(link, "Link must not be null!");
+
+		if (accessor == null) {
+			return null;
+		}
+
+		String rel = link.getRel();
+
+		return titles.computeIfAbsent(LocaleContextHolder.getLocale(), key -> new ConcurrentHashMap<>()) //
+				.computeIfAbsent(rel, this::resolveTitle) //
+				.orElse(null);
+	}
+
+	/**
+	 * Drops all cached titles. To be invoked if the messages backing the {@link MessageSourceAccessor} were reloaded.
+	 */
+	void clear() {
+		titles.clear();
+	}
+
+	private Optional<String> resolveTitle(String rel) {
+
+		Optional<String> title = lookup(rel);
+
+		return title.isPresent() || !rel.contains(":") //
+				? title //
+				: lookup(rel.substring(rel.indexOf(":") + 1));
+	}
+
+	/**
+	 * Returns the title for the given local link relation. Hands a {@literal null} default message to the
+	 * {@link MessageSourceAccessor} so that a missing title doesn't cause a
+	 * {@link org.springframework.context.NoSuchMessageException} to be created.
+	 *
+	 * @param localRel must not be {@literal null} or empty.
+	 * @return
+	 */
+	private Optional<String> lookup(String localRel) {
+
+		Assert.hasText(localRel, "Local relation must not be null or empty!");
+
+		return Optional.ofNullable(accessor.getMessage(String.format(RELATION_MESSAGE_TEMPLATE, localRel), (String) null));
+	}
+}
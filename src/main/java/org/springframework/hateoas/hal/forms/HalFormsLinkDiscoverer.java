@@ -16,16 +16,16 @@
 package org.springframework.hateoas.hal.forms;
 
 import org.springframework.hateoas.MediaTypes;
-import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
 
 /**
- * HAL-FORMS based {@link JsonPathLinkDiscoverer}.
+ * HAL-FORMS based {@link HalLinkDiscoverer}.
  * 
  * @author Greg Turnquist
  */
-public class HalFormsLinkDiscoverer extends JsonPathLinkDiscoverer {
+public class HalFormsLinkDiscoverer extends HalLinkDiscoverer {
 
 	public HalFormsLinkDiscoverer() {
-		super("$._links..['%s']..href", MediaTypes.HAL_FORMS_JSON);
+		super(MediaTypes.HAL_FORMS_JSON);
 	}
 }
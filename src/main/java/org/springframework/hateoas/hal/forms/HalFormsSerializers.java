@@ -18,10 +18,8 @@ package org.springframework.hateoas.hal.forms;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
@@ -191,24 +189,27 @@ class HalFormsSerializers {
 
 		Map<String, HalFormsTemplate> templates = new HashMap<String, HalFormsTemplate>();
 
-		if (resource.hasLink(Link.REL_SELF)) {
-			for (Affordance affordance : resource.getLink(Link.REL_SELF).map(Link::getAffordances)
-					.orElse(Collections.emptyList())) {
+		Link selfLink = resource.getLink(Link.REL_SELF).orElse(null);
 
-				HalFormsAffordanceModel model = affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON);
+		if (selfLink == null) {
+			return templates;
+		}
+
+		for (Affordance affordance : selfLink.getAffordances()) {
 
-				if (!affordance.getHttpMethod().equals(HttpMethod.GET)) {
+			HalFormsAffordanceModel model = affordance.getAffordanceModel(MediaTypes.HAL_FORMS_JSON);
 
-					validate(resource, affordance, model);
+			if (!affordance.getHttpMethod().equals(HttpMethod.GET)) {
 
-					HalFormsTemplate template = HalFormsTemplate.forMethod(affordance.getHttpMethod()) //
-							.withProperties(model.getProperties());
+				validate(selfLink, model);
 
-					/**
-					 * First template in HAL-FORMS is "default".
-					 */
-					templates.put(templates.isEmpty() ? "default" : affordance.getName(), template);
-				}
+				HalFormsTemplate template = HalFormsTemplate.forMethod(affordance.getHttpMethod()) //
+						.withProperties(model.getProperties());
+
+				/**
+				 * First template in HAL-FORMS is "default".
+				 */
+				templates.put(templates.isEmpty() ? "default" : affordance.getName(), template);
 			}
 		}
 
@@ -218,16 +219,14 @@ class HalFormsSerializers {
 	/**
 	 * Verify that the resource's self link and the affordance's URI have the same relative path.
 	 * 
-	 * @param resource
-	 * @param affordance
+	 * @param selfLink
 	 * @param model
 	 */
-	private static void validate(ResourceSupport resource, Affordance affordance, HalFormsAffordanceModel model) {
+	private static void validate(Link selfLink, HalFormsAffordanceModel model) {
 
 		try {
 
-			Optional<Link> selfLink = resource.getLink(Link.REL_SELF);
-			URI selfLinkUri = new URI(selfLink.map(link -> link.expand().getHref()).orElse(""));
+			URI selfLinkUri = new URI(selfLink.expand().getHref());
 
 			if (!model.hasPath(selfLinkUri.getPath())) {
 				throw new IllegalStateException("Affordance's URI " + model.getPath() + " doesn't match self link "
@@ -136,6 +136,18 @@ public class Jackson2HalFormsModule extends SimpleModule {
 			this(relProvider, curieProvider, messageSource, enforceEmbeddedCollections, beanFactory.getBean(HalFormsConfiguration.class));
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator#clearLinkRelationTitles()
+		 */
+		@Override
+		public void clearLinkRelationTitles() {
+
+			super.clearLinkRelationTitles();
+
+			((HalLinkListSerializer) findInstance(HalLinkListSerializer.class)).clearTitleCache();
+		}
+
 		private Object findInstance(Class<?> type) {
 			return this.serializers.get(type);
 		}
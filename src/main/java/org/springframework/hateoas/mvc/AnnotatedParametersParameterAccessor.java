@@ -21,6 +21,7 @@ import lombok.RequiredArgsConstructor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +48,8 @@ class AnnotatedParametersParameterAccessor {
 
 	private static final Map<Method, MethodParameters> METHOD_PARAMETERS_CACHE = new ConcurrentReferenceHashMap<>(
 			16, ReferenceType.WEAK);
+	private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
+	private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
 
 	private final @NonNull AnnotationAttribute attribute;
 
@@ -60,17 +63,32 @@ class AnnotatedParametersParameterAccessor {
 
 		Assert.notNull(invocation, "MethodInvocation must not be null!");
 
-		MethodParameters parameters = getOrCreateMethodParametersFor(invocation.getMethod());
-		Object[] arguments = invocation.getArguments();
-		List<BoundMethodParameter> result = new ArrayList<>();
+		return getBoundParameters(getAnnotatedParameters(invocation.getMethod()), invocation.getArguments());
+	}
 
-		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+	/**
+	 * Returns {@link BoundMethodParameter}s for the given, previously resolved {@link AnnotatedParameter}s and method
+	 * arguments.
+	 * 
+	 * @param parameters must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 * @see #getAnnotatedParameters(Method)
+	 */
+	public List<BoundMethodParameter> getBoundParameters(List<AnnotatedParameter> parameters, Object[] arguments) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+		Assert.notNull(arguments, "Arguments must not be null!");
+
+		List<BoundMethodParameter> result = new ArrayList<>(parameters.size());
+
+		for (AnnotatedParameter parameter : parameters) {
 
 			Object value = arguments[parameter.getParameterIndex()];
-			Object verifiedValue = verifyParameterValue(parameter, value);
+			Object verifiedValue = parameter.verifyValue(value);
 
 			if (verifiedValue != null) {
-				result.add(createParameter(parameter, verifiedValue, attribute));
+				result.add(new BoundMethodParameter(parameter, verifiedValue));
 			}
 		}
 
@@ -78,29 +96,35 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Create the {@link BoundMethodParameter} for the given {@link MethodParameter}, parameter value and
-	 * {@link AnnotationAttribute}.
+	 * Returns the {@link AnnotatedParameter}s of the given {@link Method}, i.e. all parameters carrying the configured
+	 * annotation with all annotation metadata already resolved. The result is meant to be cached by clients.
 	 * 
-	 * @param parameter must not be {@literal null}.
-	 * @param value can be {@literal null}.
-	 * @param attribute must not be {@literal null}.
+	 * @param method must not be {@literal null}.
 	 * @return
 	 */
-	protected BoundMethodParameter createParameter(MethodParameter parameter, Object value,
-			AnnotationAttribute attribute) {
-		return new BoundMethodParameter(parameter, value, attribute);
+	public List<AnnotatedParameter> getAnnotatedParameters(Method method) {
+
+		Assert.notNull(method, "Method must not be null!");
+
+		MethodParameters parameters = getOrCreateMethodParametersFor(method);
+		List<AnnotatedParameter> result = new ArrayList<>();
+
+		for (MethodParameter parameter : parameters.getParametersWith(attribute.getAnnotationType())) {
+			result.add(createAnnotatedParameter(parameter, attribute));
+		}
+
+		return Collections.unmodifiableList(result);
 	}
 
 	/**
-	 * Callback to verify the parameter values given for a dummy invocation. Default implementation rejects
-	 * {@literal null} values as they indicate an invalid dummy call.
+	 * Create the {@link AnnotatedParameter} for the given {@link MethodParameter} and {@link AnnotationAttribute}.
 	 * 
-	 * @param parameter will never be {@literal null}.
-	 * @param value could be {@literal null}.
-	 * @return the verified value.
+	 * @param parameter must not be {@literal null}.
+	 * @param attribute must not be {@literal null}.
+	 * @return
 	 */
-	protected Object verifyParameterValue(MethodParameter parameter, Object value) {
-		return value;
+	protected AnnotatedParameter createAnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
+		return new AnnotatedParameter(parameter, attribute);
 	}
 
 	/**
@@ -114,37 +138,48 @@ class AnnotatedParametersParameterAccessor {
 	}
 
 	/**
-	 * Represents a {@link MethodParameter} alongside the value it has been bound to.
-	 * 
-	 * @author Oliver Gierke
+	 * A {@link MethodParameter} carrying the configured annotation with the metadata needed to bind values to it resolved
+	 * once.
 	 */
-	static class BoundMethodParameter {
-
-		private static final ConversionService CONVERSION_SERVICE = new DefaultFormattingConversionService();
-		private static final TypeDescriptor STRING_DESCRIPTOR = TypeDescriptor.valueOf(String.class);
+	static class AnnotatedParameter {
 
 		private final MethodParameter parameter;
-		private final Object value;
-		private final AnnotationAttribute attribute;
+		private final String variableName;
 		private final TypeDescriptor parameterTypeDescriptor;
 
 		/**
-		 * Creates a new {@link BoundMethodParameter}
+		 * Creates a new {@link AnnotatedParameter} for the given {@link MethodParameter} and {@link AnnotationAttribute}.
 		 * 
 		 * @param parameter must not be {@literal null}.
-		 * @param value can be {@literal null}.
 		 * @param attribute can be {@literal null}.
 		 */
-		public BoundMethodParameter(MethodParameter parameter, Object value, AnnotationAttribute attribute) {
+		public AnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
 
 			Assert.notNull(parameter, "MethodParameter must not be null!");
 
 			this.parameter = parameter;
-			this.value = value;
-			this.attribute = attribute;
+			this.variableName = determineVariableName(parameter, attribute);
 			this.parameterTypeDescriptor = TypeDescriptor.nested(parameter, parameter.isOptional() ? 1 : 0);
 		}
 
+		/**
+		 * Returns the underlying {@link MethodParameter}.
+		 * 
+		 * @return
+		 */
+		public MethodParameter getParameter() {
+			return parameter;
+		}
+
+		/**
+		 * Returns the index of the parameter within the method's parameter list.
+		 * 
+		 * @return
+		 */
+		public int getParameterIndex() {
+			return parameter.getParameterIndex();
+		}
+
 		/**
 		 * Returns the name of the {@link UriTemplate} variable to be bound. The name will be derived from the configured
 		 * {@link AnnotationAttribute} or the {@link MethodParameter} name as fallback.
@@ -152,6 +187,43 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String getVariableName() {
+			return variableName;
+		}
+
+		/**
+		 * Callback to verify the parameter values given for a dummy invocation. Default implementation returns the value
+		 * as is. Returning {@literal null} causes the parameter not to be bound at all.
+		 * 
+		 * @param value could be {@literal null}.
+		 * @return the verified value.
+		 */
+		public Object verifyValue(Object value) {
+			return value;
+		}
+
+		/**
+		 * Returns whether the given parameter is a required one. Defaults to {@literal true}.
+		 * 
+		 * @return
+		 */
+		public boolean isRequired() {
+			return true;
+		}
+
+		/**
+		 * Returns the given value converted into a {@link String} based on default conversion service setup.
+		 * 
+		 * @param value can be {@literal null}.
+		 * @return
+		 */
+		String asString(Object value) {
+
+			return value == null //
+					? null //
+					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+		}
+
+		private static String determineVariableName(MethodParameter parameter, AnnotationAttribute attribute) {
 
 			if (attribute == null) {
 				return parameter.getParameterName();
@@ -162,6 +234,41 @@ class AnnotatedParametersParameterAccessor {
 
 			return StringUtils.hasText(annotationAttributeValue) ? annotationAttributeValue : parameter.getParameterName();
 		}
+	}
+
+	/**
+	 * Represents an {@link AnnotatedParameter} alongside the value it has been bound to.
+	 * 
+	 * @author Oliver Gierke
+	 */
+	static class BoundMethodParameter {
+
+		private final AnnotatedParameter parameter;
+		private final Object value;
+
+		/**
+		 * Creates a new {@link BoundMethodParameter}
+		 * 
+		 * @param parameter must not be {@literal null}.
+		 * @param value can be {@literal null}.
+		 */
+		public BoundMethodParameter(AnnotatedParameter parameter, Object value) {
+
+			Assert.notNull(parameter, "AnnotatedParameter must not be null!");
+
+			this.parameter = parameter;
+			this.value = value;
+		}
+
+		/**
+		 * Returns the name of the {@link UriTemplate} variable to be bound.
+		 * 
+		 * @return
+		 * @see AnnotatedParameter#getVariableName()
+		 */
+		public String getVariableName() {
+			return parameter.getVariableName();
+		}
 
 		/**
 		 * Returns the raw value bound to the {@link MethodParameter}.
@@ -178,19 +285,17 @@ class AnnotatedParametersParameterAccessor {
 		 * @return
 		 */
 		public String asString() {
-
-			return value == null //
-					? null //
-					: (String) CONVERSION_SERVICE.convert(value, parameterTypeDescriptor, STRING_DESCRIPTOR);
+			return parameter.asString(value);
 		}
 
 		/**
-		 * Returns whether the given parameter is a required one. Defaults to {@literal true}.
+		 * Returns whether the given parameter is a required one.
 		 * 
 		 * @return
+		 * @see AnnotatedParameter#isRequired()
 		 */
 		public boolean isRequired() {
-			return true;
+			return parameter.isRequired();
 		}
 	}
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.Getter;
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Per {@link Method} metadata needed to bind the arguments of a controller method invocation to a URI. Captures the
+ * path variables and request parameters with their names and required flags as well as the
+ * {@link UriComponentsContributor}s applicable to each parameter, so that none of that has to be looked up again when
+ * building links.
+ *
+ * @see ControllerLinkBuilderFactory
+ */
+class CompiledMethodMapping {
+
+	private final @Getter List<AnnotatedParameter> pathVariables;
+	private final @Getter List<AnnotatedParameter> requestParameters;
+	private final List<ContributorBinding> contributorBindings;
+
+	/**
+	 * Creates a new {@link CompiledMethodMapping} for the given {@link Method}.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param pathVariableAccessor must not be {@literal null}.
+	 * @param requestParamAccessor must not be {@literal null}.
+	 * @param contributors must not be {@literal null}.
+	 */
+	CompiledMethodMapping(Method method, AnnotatedParametersParameterAccessor pathVariableAccessor,
+			AnnotatedParametersParameterAccessor requestParamAccessor, List<UriComponentsContributor> contributors) {
+
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(pathVariableAccessor, "Path variable accessor must not be null!");
+		Assert.notNull(requestParamAccessor, "Request parameter accessor must not be null!");
+		Assert.notNull(contributors, "UriComponentsContributors must not be null!");
+
+		this.pathVariables = pathVariableAccessor.getAnnotatedParameters(method);
+		this.requestParameters = requestParamAccessor.getAnnotatedParameters(method);
+		this.contributorBindings = contributors.isEmpty() //
+				? Collections.emptyList() //
+				: findContributorBindings(method, contributors);
+	}
+
+	/**
+	 * Applies the {@link UriComponentsContributor}s supporting the method's parameters to the given
+	 * {@link UriComponentsBuilder}.
+	 *
+	 * @param builder must not be {@literal null}.
+	 * @param arguments must not be {@literal null}.
+	 * @return
+	 */
+	public UriComponentsBuilder applyContributors(UriComponentsBuilder builder, Object[] arguments) {
+
+		for (ContributorBinding binding : contributorBindings) {
+
+			MethodParameter parameter = binding.getParameter();
+			binding.getContributor().enhance(builder, parameter, arguments[parameter.getParameterIndex()]);
+		}
+
+		return builder;
+	}
+
+	private static List<ContributorBinding> findContributorBindings(Method method,
+			List<UriComponentsContributor> contributors) {
+
+		List<ContributorBinding> bindings = new ArrayList<>();
+
+		for (MethodParameter parameter : new MethodParameters(method).getParameters()) {
+			for (UriComponentsContributor contributor : contributors) {
+				if (contributor.supportsParameter(parameter)) {
+					bindings.add(new ContributorBinding(parameter, contributor));
+				}
+			}
+		}
+
+		return Collections.unmodifiableList(bindings);
+	}
+
+	/**
+	 * A {@link UriComponentsContributor} supporting a particular {@link MethodParameter}.
+	 */
+	@Value
+	private static class ContributorBinding {
+
+		MethodParameter parameter;
+		UriComponentsContributor contributor;
+	}
+}
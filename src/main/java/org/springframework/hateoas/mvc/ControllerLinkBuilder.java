@@ -23,6 +23,7 @@ import lombok.experimental.Delegate;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -38,6 +39,7 @@ import org.springframework.hateoas.core.DummyInvocationUtils;
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
@@ -103,15 +105,23 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 	 * @param uriComponents must not be {@literal null}.
 	 */
 	ControllerLinkBuilder(UriComponents uriComponents) {
-		this(uriComponents, TemplateVariables.NONE, null);
+		this(uriComponents, TemplateVariables.NONE, Collections.emptyList());
 	}
 
-	ControllerLinkBuilder(UriComponents uriComponents, TemplateVariables variables, MethodInvocation invocation) {
+	/**
+	 * Creates a new {@link ControllerLinkBuilder} using the given {@link UriComponents}, {@link TemplateVariables} and
+	 * {@link Affordance}s.
+	 *
+	 * @param uriComponents must not be {@literal null}.
+	 * @param variables must not be {@literal null}.
+	 * @param affordances must not be {@literal null}.
+	 */
+	ControllerLinkBuilder(UriComponents uriComponents, TemplateVariables variables, Collection<Affordance> affordances) {
 
 		super(uriComponents);
 
 		this.variables = variables;
-		this.addAffordances(findAffordances(invocation, uriComponents));
+		this.addAffordances(affordances);
 	}
 
 	/**
@@ -215,6 +225,27 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 		return FACTORY.linkTo(invocationValue);
 	}
 
+	/**
+	 * Returns a {@link ControllerLinkTemplate} for the given controller method. The template resolves the mapping once and
+	 * allows to create {@link ControllerLinkBuilder}s from plain method arguments without the need to create a proxy via
+	 * {@link #methodOn(Class, Object...)}. Hold on to the template for links that are created frequently.
+	 *
+	 * <pre>
+	 * ControllerLinkTemplate template = template(CustomerController.class,
+	 * 		ReflectionUtils.findMethod(CustomerController.class, "showAddresses", Long.class));
+	 *
+	 * Link link = template.expand(2L).withRel("addresses");
+	 * </pre>
+	 *
+	 * @param controller the controller type to resolve the type level mapping from, must not be {@literal null}.
+	 * @param method the controller method, must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public static ControllerLinkTemplate template(Class<?> controller, Method method) {
+		return FACTORY.template(controller, method);
+	}
+
 	/**
 	 * Extract a {@link Link} from the {@link ControllerLinkBuilder} and look up the related {@link Affordance}. Should
 	 * only be one.
@@ -347,14 +378,16 @@ public class ControllerLinkBuilder extends LinkBuilderSupport<ControllerLinkBuil
 
 	/**
 	 * Look up {@link Affordance}s and {@link org.springframework.hateoas.AffordanceModel}s based on the
-	 * {@link MethodInvocation} and {@link UriComponents}.
+	 * {@link MethodInvocation}, the already resolved {@link HttpMethod}s and {@link UriComponents}.
 	 *
 	 * @param invocation
+	 * @param requestMethods
 	 * @param components
 	 * @return
 	 */
-	private static Collection<Affordance> findAffordances(MethodInvocation invocation, UriComponents components) {
-		return AFFORDANCE_BUILDER.create(invocation, DISCOVERER, components);
+	static Collection<Affordance> findAffordances(MethodInvocation invocation, Collection<HttpMethod> requestMethods,
+			UriComponents components) {
+		return AFFORDANCE_BUILDER.create(invocation, requestMethods, components);
 	}
 
 	@RequiredArgsConstructor
@@ -20,9 +20,10 @@ import static org.springframework.hateoas.TemplateVariables.*;
 import static org.springframework.hateoas.core.EncodingUtils.*;
 import static org.springframework.web.util.UriComponents.UriTemplateVariables.*;
 
+import lombok.Value;
+
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -31,6 +32,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.hateoas.Affordance;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.MethodLinkBuilderFactory;
 import org.springframework.hateoas.TemplateVariable;
@@ -41,9 +43,10 @@ import org.springframework.hateoas.core.DummyInvocationUtils.LastInvocationAware
 import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
 import org.springframework.hateoas.core.LinkBuilderSupport;
 import org.springframework.hateoas.core.MappingDiscoverer;
-import org.springframework.hateoas.core.MethodParameters;
+import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter;
 import org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.util.MultiValueMap;
 import org.springframework.util.ObjectUtils;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -52,7 +55,6 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ValueConstants;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.springframework.web.util.UriTemplate;
 
 /**
  * Factory for {@link LinkBuilderSupport} instances based on the request mapping annotated on the given controller.
@@ -74,6 +76,8 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			new AnnotationAttribute(PathVariable.class));
 	private static final AnnotatedParametersParameterAccessor REQUEST_PARAM_ACCESSOR = new RequestParamParameterAccessor();
 
+	private final Map<TemplateKey, ControllerLinkTemplate> templates = new ConcurrentReferenceHashMap<>();
+	private final Map<Method, CompiledMethodMapping> mappings = new ConcurrentReferenceHashMap<>();
 	private List<UriComponentsContributor> uriComponentsContributors = new ArrayList<UriComponentsContributor>();
 
 	/**
@@ -84,7 +88,9 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 * @param uriComponentsContributors the uriComponentsContributors to set
 	 */
 	public void setUriComponentsContributors(List<? extends UriComponentsContributor> uriComponentsContributors) {
+
 		this.uriComponentsContributors = Collections.unmodifiableList(uriComponentsContributors);
+		this.mappings.clear();
 	}
 
 	/*
@@ -134,14 +140,45 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		LastInvocationAware invocations = (LastInvocationAware) invocationValue;
 
 		MethodInvocation invocation = invocations.getLastInvocation();
-		Iterator<Object> classMappingParameters = invocations.getObjectParameters();
-		Method method = invocation.getMethod();
+		ControllerLinkTemplate template = template(invocation.getTargetType(), invocation.getMethod());
+
+		return linkTo(template, invocation, invocations.getObjectParameters());
+	}
+
+	/**
+	 * Returns the {@link ControllerLinkTemplate} for the given controller type and method. Templates are cached so that
+	 * the mapping is only resolved once per controller method.
+	 *
+	 * @param controller must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return
+	 * @since 1.0
+	 */
+	public ControllerLinkTemplate template(Class<?> controller, Method method) {
 
-		String mapping = DISCOVERER.getMapping(invocation.getTargetType(), method);
+		Assert.notNull(controller, "Controller type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
 
-		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(mapping);
+		return templates.computeIfAbsent(new TemplateKey(controller, method),
+				key -> new ControllerLinkTemplate(this, key.getType(), key.getMethod(), DISCOVERER));
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} for the given {@link ControllerLinkTemplate} and {@link MethodInvocation}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param invocation must not be {@literal null}.
+	 * @param classMappingParameters must not be {@literal null}.
+	 * @return
+	 */
+	ControllerLinkBuilder linkTo(ControllerLinkTemplate template, MethodInvocation invocation,
+			Iterator<Object> classMappingParameters) {
+
+		CompiledMethodMapping mapping = getCompiledMapping(invocation.getMethod());
+		Object[] arguments = invocation.getArguments();
+
+		UriComponentsBuilder builder = ControllerLinkBuilder.getBuilder().path(template.getMapping());
 
-		UriTemplate template = new UriTemplate(mapping);
 		Map<String, Object> values = new HashMap<String, Object>();
 		Iterator<String> names = template.getVariableNames().iterator();
 
@@ -149,13 +186,15 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			values.put(names.next(), encodePath(classMappingParameters.next()));
 		}
 
-		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : PATH_VARIABLE_ACCESSOR.getBoundParameters(mapping.getPathVariables(),
+				arguments)) {
 			values.put(parameter.getVariableName(), encodePath(parameter.asString()));
 		}
 
 		List<String> optionalEmptyParameters = new ArrayList<String>();
 
-		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(invocation)) {
+		for (BoundMethodParameter parameter : REQUEST_PARAM_ACCESSOR.getBoundParameters(mapping.getRequestParameters(),
+				arguments)) {
 
 			bindRequestParameters(builder, parameter);
 
@@ -186,7 +225,10 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 			variables = variables.concat(variable);
 		}
 
-		return new ControllerLinkBuilder(components, variables, invocation);
+		Collection<Affordance> affordances = ControllerLinkBuilder.findAffordances(invocation,
+				template.getRequestMethods(), components);
+
+		return new ControllerLinkBuilder(components, variables, affordances);
 	}
 
 	/*
@@ -198,8 +240,6 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 		return ControllerLinkBuilder.linkTo(method, parameters);
 	}
 
-
-
 	/**
 	 * Applies the configured {@link UriComponentsContributor}s to the given {@link UriComponentsBuilder}.
 	 * 
@@ -209,20 +249,19 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 	 */
 	protected UriComponentsBuilder applyUriComponentsContributer(UriComponentsBuilder builder,
 			MethodInvocation invocation) {
+		return getCompiledMapping(invocation.getMethod()).applyContributors(builder, invocation.getArguments());
+	}
 
-		MethodParameters parameters = new MethodParameters(invocation.getMethod());
-		Iterator<Object> parameterValues = Arrays.asList(invocation.getArguments()).iterator();
-
-		for (MethodParameter parameter : parameters.getParameters()) {
-			Object parameterValue = parameterValues.next();
-			for (UriComponentsContributor contributor : uriComponentsContributors) {
-				if (contributor.supportsParameter(parameter)) {
-					contributor.enhance(builder, parameter, parameterValue);
-				}
-			}
-		}
+	/**
+	 * Returns the {@link CompiledMethodMapping} for the given {@link Method}, resolving it on first access.
+	 * 
+	 * @param method must not be {@literal null}.
+	 * @return
+	 */
+	private CompiledMethodMapping getCompiledMapping(Method method) {
 
-		return builder;
+		return mappings.computeIfAbsent(method, it -> new CompiledMethodMapping(it, PATH_VARIABLE_ACCESSOR,
+				REQUEST_PARAM_ACCESSOR, uriComponentsContributors));
 	}
 
 	/**
@@ -287,41 +326,50 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createParameter(org.springframework.core.MethodParameter, java.lang.Object, org.springframework.hateoas.core.AnnotationAttribute)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#createAnnotatedParameter(org.springframework.core.MethodParameter, org.springframework.hateoas.core.AnnotationAttribute)
 		 */
 		@Override
-		protected BoundMethodParameter createParameter(final MethodParameter parameter, Object value,
-				AnnotationAttribute attribute) {
+		protected AnnotatedParameter createAnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
+			return new RequestParamAnnotatedParameter(parameter, attribute);
+		}
+	}
 
-			return new BoundMethodParameter(parameter, value, attribute) {
+	/**
+	 * {@link AnnotatedParameter} for {@link RequestParam} resolving the attributes relevant to decide whether a parameter
+	 * is required once.
+	 */
+	private static class RequestParamAnnotatedParameter extends AnnotatedParameter {
 
-				/* 
-				 * (non-Javadoc)
-				 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.BoundMethodParameter#isRequired()
-				 */
-				@Override
-				public boolean isRequired() {
+		private final boolean optional;
+		private final boolean annotatedAsRequired;
+		private final boolean defaultValueDeclared;
 
-					RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+		RequestParamAnnotatedParameter(MethodParameter parameter, AnnotationAttribute attribute) {
 
-					if (parameter.isOptional()) {
-						return false;
-					}
+			super(parameter, attribute);
 
-					return annotation.required() //
-							&& annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
-				}
-			};
+			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+
+			this.optional = parameter.isOptional();
+			this.annotatedAsRequired = annotation.required();
+			this.defaultValueDeclared = !annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE);
 		}
 
 		/* 
 		 * (non-Javadoc)
-		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor#verifyParameterValue(org.springframework.core.MethodParameter, java.lang.Object)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter#isRequired()
 		 */
 		@Override
-		protected Object verifyParameterValue(MethodParameter parameter, Object value) {
+		public boolean isRequired() {
+			return !optional && annotatedAsRequired && !defaultValueDeclared;
+		}
 
-			RequestParam annotation = parameter.getParameterAnnotation(RequestParam.class);
+		/* 
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.AnnotatedParametersParameterAccessor.AnnotatedParameter#verifyValue(java.lang.Object)
+		 */
+		@Override
+		public Object verifyValue(Object value) {
 
 			value = ObjectUtils.unwrapOptional(value);
 
@@ -329,11 +377,21 @@ public class ControllerLinkBuilderFactory implements MethodLinkBuilderFactory<Co
 				return value;
 			}
 
-			if (!annotation.required() || parameter.isOptional()) {
+			if (!annotatedAsRequired || optional) {
 				return SKIP_VALUE;
 			}
 
-			return annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE) ? SKIP_VALUE : null;
+			return defaultValueDeclared ? null : SKIP_VALUE;
 		}
 	}
+
+	/**
+	 * Cache key for {@link ControllerLinkTemplate}s as the mapping depends on both the controller type and the method.
+	 */
+	@Value
+	private static class TemplateKey {
+
+		Class<?> type;
+		Method method;
+	}
 }
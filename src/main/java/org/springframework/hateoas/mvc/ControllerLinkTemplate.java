@@ -0,0 +1,144 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.mvc;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.Value;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.core.DummyInvocationUtils.MethodInvocation;
+import org.springframework.hateoas.core.MappingDiscoverer;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.Assert;
+import org.springframework.web.util.UriTemplate;
+
+/**
+ * A link template for a Spring MVC controller method that resolves the request mapping, its template variables and
+ * the HTTP methods to be exposed as affordances exactly once. Links can then be expanded from plain argument arrays
+ * without recording a method invocation through a proxy created via
+ * {@link ControllerLinkBuilder#methodOn(Class, Object...)}.
+ *
+ * <pre>
+ * private static final ControllerLinkTemplate ORDER = ControllerLinkBuilder.template(OrderController.class,
+ * 		ReflectionUtils.findMethod(OrderController.class, "order", Long.class));
+ *
+ * Link link = ORDER.expand(4711L).withSelfRel();
+ * </pre>
+ *
+ * The arguments are bound exactly the way they would have been for a dummy invocation of the method, i.e.
+ * {@literal null} values for optional request parameters will result in template variables.
+ *
+ * @since 1.0
+ * @see ControllerLinkBuilder#template(Class, Method)
+ */
+public class ControllerLinkTemplate {
+
+	private final ControllerLinkBuilderFactory factory;
+	private final @Getter Class<?> controllerType;
+	private final @Getter Method method;
+	private final @Getter(AccessLevel.PACKAGE) String mapping;
+	private final @Getter(AccessLevel.PACKAGE) List<String> variableNames;
+	private final @Getter(AccessLevel.PACKAGE) Collection<HttpMethod> requestMethods;
+	private final Object[] typeParameters;
+
+	/**
+	 * Creates a new {@link ControllerLinkTemplate} for the given controller type and method, resolving the mapping
+	 * through the given {@link MappingDiscoverer}.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param controllerType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param discoverer must not be {@literal null}.
+	 */
+	ControllerLinkTemplate(ControllerLinkBuilderFactory factory, Class<?> controllerType, Method method,
+			MappingDiscoverer discoverer) {
+
+		Assert.notNull(factory, "ControllerLinkBuilderFactory must not be null!");
+		Assert.notNull(controllerType, "Controller type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+		Assert.notNull(discoverer, "MappingDiscoverer must not be null!");
+
+		this.factory = factory;
+		this.controllerType = controllerType;
+		this.method = method;
+		this.mapping = discoverer.getMapping(controllerType, method);
+		this.variableNames = Collections.unmodifiableList(UriTemplate.of(mapping).getVariableNames());
+		this.requestMethods = Collections.unmodifiableCollection(discoverer.getRequestMethod(controllerType, method));
+		this.typeParameters = new Object[0];
+	}
+
+	private ControllerLinkTemplate(ControllerLinkTemplate source, Object[] typeParameters) {
+
+		this.factory = source.factory;
+		this.controllerType = source.controllerType;
+		this.method = source.method;
+		this.mapping = source.mapping;
+		this.variableNames = source.variableNames;
+		this.requestMethods = source.requestMethods;
+		this.typeParameters = typeParameters;
+	}
+
+	/**
+	 * Returns a new {@link ControllerLinkTemplate} that uses the given parameters to fill up template variables declared
+	 * in the type level mapping. This is the equivalent of handing parameters into
+	 * {@link ControllerLinkBuilder#methodOn(Class, Object...)}.
+	 *
+	 * @param parameters must not be {@literal null}.
+	 * @return
+	 */
+	public ControllerLinkTemplate withTypeParameters(Object... parameters) {
+
+		Assert.notNull(parameters, "Parameters must not be null!");
+
+		return new ControllerLinkTemplate(this, parameters.clone());
+	}
+
+	/**
+	 * Creates a {@link ControllerLinkBuilder} for the given method arguments.
+	 *
+	 * @param arguments the arguments to bind, one per method parameter, must not be {@literal null}.
+	 * @return
+	 */
+	public ControllerLinkBuilder expand(Object... arguments) {
+
+		Assert.notNull(arguments, "Arguments must not be null!");
+		Assert.isTrue(arguments.length == method.getParameterCount(),
+				() -> String.format("Expected %s arguments for method %s but got %s!", method.getParameterCount(), method,
+						arguments.length));
+
+		MethodInvocation invocation = new TemplateMethodInvocation(controllerType, method, arguments);
+
+		return factory.linkTo(this, invocation, Arrays.asList(typeParameters).iterator());
+	}
+
+	/**
+	 * A plain {@link MethodInvocation} carrying the arguments handed into {@link ControllerLinkTemplate#expand(Object...)}.
+	 */
+	@Value
+	private static class TemplateMethodInvocation implements MethodInvocation {
+
+		@NonNull Class<?> targetType;
+		@NonNull Method method;
+		@NonNull Object[] arguments;
+	}
+}
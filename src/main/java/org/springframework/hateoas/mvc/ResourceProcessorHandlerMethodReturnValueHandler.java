@@ -18,9 +18,13 @@ package org.springframework.hateoas.mvc;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
 
 import org.springframework.core.MethodParameter;
+import org.springframework.core.ReactiveAdapterRegistry;
 import org.springframework.core.ResolvableType;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
@@ -28,14 +32,20 @@ import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
  * {@link HandlerMethodReturnValueHandler} to post-process the objects returned from controller methods using the
  * configured {@link ResourceProcessor}s.
+ * <p>
+ * Results of {@link CompletionStage}s, {@link ListenableFuture}s, {@link Callable}s, {@link DeferredResult}s,
+ * {@link WebAsyncTask}s and reactive types are processed once Spring MVC dispatches them back to the handler, i.e. with
+ * the request bound but without blocking a thread while waiting for them.
  * 
  * @author Oliver Gierke
  * @since 0.20
@@ -48,11 +58,9 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	static final ResolvableType RESOURCES_TYPE = ResolvableType.forRawClass(Resources.class);
 	private static final ResolvableType HTTP_ENTITY_TYPE = ResolvableType.forRawClass(HttpEntity.class);
 
-	static final Field CONTENT_FIELD = ReflectionUtils.findField(Resources.class, "content");
-
-	static {
-		ReflectionUtils.makeAccessible(CONTENT_FIELD);
-	}
+	private static final List<Class<?>> ASYNC_TYPES = Arrays.asList(CompletionStage.class, ListenableFuture.class,
+			Callable.class, DeferredResult.class, WebAsyncTask.class);
+	private static final ReactiveAdapterRegistry REACTIVE_ADAPTERS = new ReactiveAdapterRegistry();
 
 	private final @NonNull HandlerMethodReturnValueHandler delegate;
 	private final @NonNull ResourceProcessorInvoker invoker;
@@ -83,20 +91,32 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 	public void handleReturnValue(Object returnValue, MethodParameter returnType, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest) throws Exception {
 
-		Object value = returnValue;
+		delegate.handleReturnValue(processResult(returnValue, returnType), returnType, mavContainer, webRequest);
+	}
 
-		if (returnValue instanceof HttpEntity) {
-			value = ((HttpEntity<?>) returnValue).getBody();
+	/**
+	 * Invokes the processors for the given result, unwrapping and re-wrapping {@link HttpEntity}s.
+	 * 
+	 * @param result can be {@literal null}.
+	 * @param returnType the {@link MethodParameter} of the handler method's return type, must not be {@literal null}.
+	 * @return the processed result or the given one if it's not post-processable.
+	 */
+	private Object processResult(Object result, MethodParameter returnType) {
+
+		Object value = result;
+
+		if (result instanceof HttpEntity) {
+			value = ((HttpEntity<?>) result).getBody();
 		}
 
 		// No post-processable type found - proceed with delegate
 		if (!ResourceSupport.class.isInstance(value)) {
-			delegate.handleReturnValue(returnValue, returnType, mavContainer, webRequest);
-			return;
+			return result;
 		}
 
-		// We have a Resource or Resources - find suitable processors
-		ResolvableType targetType = ResolvableType.forMethodReturnType(returnType.getMethod());
+		// We have a Resource or Resources - find suitable processors. Asynchronous results get dispatched back to the
+		// handler on completion, so we see the actual result then
+		ResolvableType targetType = unwrapAsyncType(ResolvableType.forMethodReturnType(returnType.getMethod()));
 
 		// Unbox HttpEntity
 		if (HTTP_ENTITY_TYPE.isAssignableFrom(targetType)) {
@@ -110,8 +130,27 @@ public class ResourceProcessorHandlerMethodReturnValueHandler implements Handler
 			targetType = returnValueType;
 		}
 
-		ResourceSupport result = invoker.invokeProcessorsFor((ResourceSupport) value, targetType);
-		delegate.handleReturnValue(rewrapResult(result, returnValue), returnType, mavContainer, webRequest);
+		return rewrapResult(invoker.invokeProcessorsFor((ResourceSupport) value, targetType), result);
+	}
+
+	/**
+	 * Returns the type of the value produced by the given asynchronous type or the given type itself if it's not an
+	 * asynchronous one. Used for values dispatched back to the handler after asynchronous processing completed.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private static ResolvableType unwrapAsyncType(ResolvableType type) {
+
+		Class<?> rawType = getRawType(type);
+
+		for (Class<?> asyncType : ASYNC_TYPES) {
+			if (asyncType.isAssignableFrom(rawType)) {
+				return type.as(asyncType).getGeneric(0);
+			}
+		}
+
+		return REACTIVE_ADAPTERS.getAdapter(rawType) == null ? type : type.getGeneric(0);
 	}
 
 	/**
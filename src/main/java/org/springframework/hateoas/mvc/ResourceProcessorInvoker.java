@@ -19,18 +19,31 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.hateoas.BatchResourceProcessor;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.ThreadSafeResourceProcessor;
 import org.springframework.hateoas.core.EmbeddedWrapper;
+import org.springframework.hateoas.core.ParallelUtils;
 import org.springframework.util.Assert;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 /**
  * Component to easily invoke all {@link ResourceProcessor} instances registered for values of type
@@ -42,7 +55,15 @@ import org.springframework.util.ReflectionUtils;
  */
 public class ResourceProcessorInvoker {
 
+	private static final int DEFAULT_PARALLEL_THRESHOLD = 256;
+
 	private final List<ProcessorWrapper> processors;
+	private final List<ProcessorWrapper> batchProcessors;
+	private final Map<ResolvableType, List<ProcessorWrapper>> dispatch = new ConcurrentReferenceHashMap<>();
+
+	private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+	private int parallelism = Runtime.getRuntime().availableProcessors();
+	private Executor executor = ForkJoinPool.commonPool();
 
 	/**
 	 * Creates a new {@link ResourceProcessorInvoker} to consider the given {@link ResourceProcessor} to post-process the
@@ -71,6 +92,54 @@ public class ResourceProcessorInvoker {
 		}
 
 		Collections.sort(this.processors, AnnotationAwareOrderComparator.INSTANCE);
+
+		this.batchProcessors = new ArrayList<ProcessorWrapper>();
+
+		for (ProcessorWrapper wrapper : this.processors) {
+			if (wrapper.isBatch()) {
+				this.batchProcessors.add(wrapper);
+			}
+		}
+	}
+
+	/**
+	 * Configures the number of elements a {@link Resources} instance needs to contain at least to get its elements
+	 * processed in parallel. Elements are only processed in parallel if all {@link ResourceProcessor}s applying to them
+	 * are {@link ThreadSafeResourceProcessor}s or {@link BatchResourceProcessor}s. The latter are always invoked by the
+	 * calling thread. Defaults to 256.
+	 * 
+	 * @param parallelThreshold must be greater than zero.
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+
+		Assert.isTrue(parallelThreshold > 0, "Parallel threshold must be greater than zero!");
+
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Configures the maximum number of threads to process elements in parallel, including the calling one. Defaults to
+	 * the number of available processors.
+	 * 
+	 * @param parallelism must be greater than zero.
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero!");
+
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Configures the {@link Executor} to process elements in parallel. Defaults to the common {@link ForkJoinPool}.
+	 * 
+	 * @param executor must not be {@literal null}.
+	 */
+	public void setExecutor(Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null!");
+
+		this.executor = executor;
 	}
 
 	/**
@@ -102,23 +171,25 @@ public class ResourceProcessorInvoker {
 		// For Resources implementations, process elements first
 		if (ResourceProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(referenceType)) {
 
-			Resources<?> resources = (Resources<?>) value;
+			Resources<Object> resources = (Resources<Object>) value;
 			ResolvableType elementTargetType = ResolvableType.forClass(Resources.class, referenceType.getRawClass())
 					.getGeneric(0);
-			List<Object> result = new ArrayList<Object>(resources.getContent().size());
+			Object[] elements = resources.getContent().toArray();
+			ResolvableType[] elementTypes = new ResolvableType[elements.length];
 
-			for (Object element : resources) {
+			for (int i = 0; i < elementTypes.length; i++) {
 
-				ResolvableType elementType = ResolvableType.forClass(element.getClass());
+				ResolvableType elementType = ResolvableType.forClass(elements[i].getClass());
 
 				if (!getRawType(elementTargetType).equals(elementType.getRawClass())) {
 					elementTargetType = elementType;
 				}
 
-				result.add(invokeProcessorsFor(element, elementTargetType));
+				elementTypes[i] = elementTargetType;
 			}
 
-			ReflectionUtils.setField(ResourceProcessorHandlerMethodReturnValueHandler.CONTENT_FIELD, resources, result);
+			invokeProcessorsForElements(elements, elementTypes);
+			replaceChangedElements(resources, elements);
 		}
 
 		return (T) invokeProcessorsFor((Object) value, referenceType);
@@ -136,8 +207,8 @@ public class ResourceProcessorInvoker {
 		Object currentValue = value;
 
 		// Process actual value
-		for (ResourceProcessorInvoker.ProcessorWrapper wrapper : this.processors) {
-			if (wrapper.supports(type, currentValue)) {
+		for (ResourceProcessorInvoker.ProcessorWrapper wrapper : getProcessorsFor(type)) {
+			if (wrapper.supportsValue(currentValue)) {
 				currentValue = wrapper.invokeProcessor(currentValue);
 			}
 		}
@@ -145,6 +216,219 @@ public class ResourceProcessorInvoker {
 		return currentValue;
 	}
 
+	/**
+	 * Invokes the processors registered for the given element types on the given elements. Each element runs through the
+	 * processors applying to it in order, {@link BatchResourceProcessor}s act as barriers and are invoked once with all
+	 * elements they apply to as soon as all elements have reached them.
+	 * 
+	 * @param values the elements to process, will be replaced by the processed ones. Must not be {@literal null}.
+	 * @param types the target types of the elements, must not be {@literal null}.
+	 */
+	private void invokeProcessorsForElements(Object[] values, ResolvableType[] types) {
+
+		List<List<ProcessorWrapper>> chains = new ArrayList<List<ProcessorWrapper>>(types.length);
+		int[] positions = new int[types.length];
+
+		for (ResolvableType type : types) {
+			chains.add(getProcessorsFor(type));
+		}
+
+		for (ProcessorWrapper batchProcessor : batchProcessors) {
+			invokeProcessorsUpToBatch(values, chains, positions);
+			invokeBatchProcessor(batchProcessor, values, chains, positions);
+		}
+
+		invokeProcessorsUpToBatch(values, chains, positions);
+	}
+
+	/**
+	 * Replaces the elements of the given {@link Resources} that are not the original ones anymore with the processed
+	 * ones.
+	 * 
+	 * @param resources must not be {@literal null}.
+	 * @param values the processed elements in content order, must not be {@literal null}.
+	 */
+	private static void replaceChangedElements(Resources<Object> resources, Object[] values) {
+
+		Object[] elements = resources.getContent().toArray();
+
+		for (int index = 0; index < values.length; index++) {
+			if (elements[index] != values[index]) {
+				resources.replaceContent(index, values[index]);
+			}
+		}
+	}
+
+	/**
+	 * Advances all elements through their processor chains up to the next {@link BatchResourceProcessor} or the end of
+	 * the chain. Runs in parallel if possible.
+	 * 
+	 * @param values must not be {@literal null}.
+	 * @param chains must not be {@literal null}.
+	 * @param positions must not be {@literal null}.
+	 */
+	private void invokeProcessorsUpToBatch(Object[] values, List<List<ProcessorWrapper>> chains, int[] positions) {
+
+		IntConsumer action = index -> {
+
+			List<ProcessorWrapper> chain = chains.get(index);
+			Object currentValue = values[index];
+			int position = positions[index];
+
+			for (; position < chain.size() && !chain.get(position).isBatch(); position++) {
+
+				ProcessorWrapper wrapper = chain.get(position);
+
+				if (wrapper.supportsValue(currentValue)) {
+					currentValue = wrapper.invokeProcessor(currentValue);
+				}
+			}
+
+			values[index] = currentValue;
+			positions[index] = position;
+		};
+
+		if (canProcessInParallel(chains)) {
+			forEachIndexInParallel(values.length, action);
+		} else {
+			for (int i = 0; i < values.length; i++) {
+				action.accept(i);
+			}
+		}
+	}
+
+	/**
+	 * Invokes the given batch processor with all elements that have reached it in their processor chains.
+	 * 
+	 * @param batchProcessor must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @param chains must not be {@literal null}.
+	 * @param positions must not be {@literal null}.
+	 */
+	private static void invokeBatchProcessor(ProcessorWrapper batchProcessor, Object[] values,
+			List<List<ProcessorWrapper>> chains, int[] positions) {
+
+		List<Integer> indexes = new ArrayList<Integer>();
+		List<Object> batch = new ArrayList<Object>();
+
+		for (int i = 0; i < values.length; i++) {
+
+			List<ProcessorWrapper> chain = chains.get(i);
+
+			if (positions[i] >= chain.size() || chain.get(positions[i]) != batchProcessor) {
+				continue;
+			}
+
+			positions[i]++;
+
+			if (batchProcessor.supportsValue(values[i])) {
+				indexes.add(i);
+				batch.add(values[i]);
+			}
+		}
+
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		List<?> result = batchProcessor.invokeBatchProcessor(batch);
+
+		Assert.state(result != null && result.size() == batch.size(),
+				"BatchResourceProcessor must return as many resources as it was given!");
+
+		for (int i = 0; i < indexes.size(); i++) {
+			values[indexes.get(i)] = result.get(i);
+		}
+	}
+
+	/**
+	 * Invokes the given action for all indexes up to the given size with at most {@link #parallelism} threads. The calling
+	 * thread acts as one of the workers, the other ones get the calling thread's {@link RequestAttributes} and
+	 * {@link LocaleContext} bound while processing.
+	 * 
+	 * @param size the number of indexes.
+	 * @param action must not be {@literal null}.
+	 * @see ParallelUtils#forEachIndex(int, int, Executor, java.util.function.UnaryOperator, IntConsumer)
+	 */
+	private void forEachIndexInParallel(int size, IntConsumer action) {
+
+		// Expose the current request and locale to the other workers, e.g. for ControllerLinkBuilder to create
+		// absolute links
+		RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+		ParallelUtils.forEachIndex(size, parallelism, executor, worker -> () -> {
+
+			RequestAttributes previousRequestAttributes = RequestContextHolder.getRequestAttributes();
+			LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+
+			RequestContextHolder.setRequestAttributes(requestAttributes);
+			LocaleContextHolder.setLocaleContext(localeContext);
+
+			try {
+				worker.run();
+			} finally {
+				RequestContextHolder.setRequestAttributes(previousRequestAttributes);
+				LocaleContextHolder.setLocaleContext(previousLocaleContext);
+			}
+		}, action);
+	}
+
+	/**
+	 * Returns whether elements with the given processor chains can be processed in parallel, i.e. if there are enough of
+	 * them and all processors but the {@link BatchResourceProcessor}s, which are always invoked by the calling thread,
+	 * can be invoked concurrently.
+	 * 
+	 * @param chains must not be {@literal null}.
+	 * @return
+	 */
+	private boolean canProcessInParallel(List<List<ProcessorWrapper>> chains) {
+
+		if (parallelism < 2 || chains.size() < parallelThreshold) {
+			return false;
+		}
+
+		Set<List<ProcessorWrapper>> checked = Collections.newSetFromMap(new IdentityHashMap<>());
+
+		for (List<ProcessorWrapper> chain : chains) {
+
+			if (!checked.add(chain)) {
+				continue;
+			}
+
+			for (ProcessorWrapper wrapper : chain) {
+				if (!wrapper.isBatch() && !wrapper.isThreadSafe()) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns the {@link ProcessorWrapper}s supporting the given {@link ResolvableType} in invocation order. The result is
+	 * cached as it only depends on the type, checks inspecting the actual value are left to the caller.
+	 * 
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private List<ProcessorWrapper> getProcessorsFor(ResolvableType type) {
+
+		return dispatch.computeIfAbsent(type, it -> {
+
+			List<ProcessorWrapper> result = new ArrayList<ProcessorWrapper>();
+
+			for (ProcessorWrapper wrapper : this.processors) {
+				if (wrapper.supportsType(it)) {
+					result.add(wrapper);
+				}
+			}
+
+			return result.isEmpty() ? Collections.<ProcessorWrapper> emptyList() : result;
+		});
+	}
+
 	private static boolean isRawTypeAssignable(ResolvableType left, Class<?> right) {
 		return getRawType(left).isAssignableFrom(right);
 	}
@@ -171,7 +455,28 @@ public class ResourceProcessorInvoker {
 		 * @param value the object that would be passed into the processor eventually, can be {@literal null}.
 		 * @return
 		 */
-		boolean supports(ResolvableType type, Object value);
+		default boolean supports(ResolvableType type, Object value) {
+			return supportsType(type) && supportsValue(value);
+		}
+
+		/**
+		 * Returns whether the underlying processor supports the given {@link ResolvableType} by only looking at the type
+		 * itself. The result must be stable for a given type as it's cached.
+		 * 
+		 * @param type the type of object to be post processed, will never be {@literal null}.
+		 * @return
+		 */
+		boolean supportsType(ResolvableType type);
+
+		/**
+		 * Returns whether the underlying processor supports the given object that would eventually be handed to it.
+		 * Implementations can be sure {@link #supportsType(ResolvableType)} has been called before and returned
+		 * {@literal true}.
+		 * 
+		 * @param value the object that would be passed into the processor eventually, can be {@literal null}.
+		 * @return
+		 */
+		boolean supportsValue(Object value);
 
 		/**
 		 * Performs the actual invocation of the processor. Implementations can be sure
@@ -180,6 +485,31 @@ public class ResourceProcessorInvoker {
 		 * @param object
 		 */
 		Object invokeProcessor(Object object);
+
+		/**
+		 * Returns whether the underlying processor is a {@link BatchResourceProcessor}.
+		 * 
+		 * @return
+		 */
+		boolean isBatch();
+
+		/**
+		 * Performs the actual invocation of the {@link BatchResourceProcessor} for the given objects. Implementations can
+		 * be sure {@link #isBatch()} returned {@literal true} and {@link #supportsValue(Object)} returned {@literal true}
+		 * for all given objects.
+		 * 
+		 * @param objects will never be {@literal null} or empty.
+		 * @return
+		 */
+		List<?> invokeBatchProcessor(List<Object> objects);
+
+		/**
+		 * Returns whether the underlying processor can be invoked concurrently.
+		 * 
+		 * @return
+		 * @see ThreadSafeResourceProcessor
+		 */
+		boolean isThreadSafe();
 	}
 
 	/**
@@ -207,13 +537,22 @@ public class ResourceProcessorInvoker {
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.ProcessorWrapper#supports(org.springframework.core.ResolvableType, java.lang.Object)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#supportsType(org.springframework.core.ResolvableType)
 		 */
 		@Override
-		public boolean supports(ResolvableType type, Object value) {
+		public boolean supportsType(ResolvableType type) {
 			return isRawTypeAssignable(targetType, getRawType(type));
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#supportsValue(java.lang.Object)
+		 */
+		@Override
+		public boolean supportsValue(Object value) {
+			return true;
+		}
+
 		/* 
 		 * (non-Javadoc)
 		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.PostProcessorWrapper#invokeProcessor(java.lang.Object)
@@ -224,6 +563,34 @@ public class ResourceProcessorInvoker {
 			return ((ResourceProcessor<ResourceSupport>) processor).process((ResourceSupport) object);
 		}
 
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#isBatch()
+		 */
+		@Override
+		public boolean isBatch() {
+			return processor instanceof BatchResourceProcessor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#invokeBatchProcessor(java.util.List)
+		 */
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		public List<?> invokeBatchProcessor(List<Object> objects) {
+			return ((BatchResourceProcessor<ResourceSupport>) processor).processAll((List) objects);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.ProcessorWrapper#isThreadSafe()
+		 */
+		@Override
+		public boolean isThreadSafe() {
+			return processor instanceof ThreadSafeResourceProcessor;
+		}
+
 		/*
 		 * (non-Javadoc)
 		 * @see org.springframework.core.Ordered#getOrder()
@@ -251,27 +618,37 @@ public class ResourceProcessorInvoker {
 	 */
 	private static class ResourceProcessorWrapper extends ResourceProcessorInvoker.DefaultProcessorWrapper {
 
+		private final ResolvableType contentType;
+
 		/**
 		 * Creates a new {@link ResourceProcessorWrapper} for the given {@link ResourceProcessor}.
 		 * 
 		 * @param processor must not be {@literal null}.
 		 */
 		public ResourceProcessorWrapper(ResourceProcessor<?> processor) {
+
 			super(processor);
+
+			this.contentType = getContentType(getTargetType());
 		}
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.DefaultProcessorWrapper#supports(org.springframework.core.ResolvableType, java.lang.Object)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.DefaultProcessorWrapper#supportsType(org.springframework.core.ResolvableType)
 		 */
 		@Override
-		public boolean supports(ResolvableType type, Object value) {
-
-			if (!ResourceProcessorHandlerMethodReturnValueHandler.RESOURCE_TYPE.isAssignableFrom(type)) {
-				return false;
-			}
+		public boolean supportsType(ResolvableType type) {
+			return ResourceProcessorHandlerMethodReturnValueHandler.RESOURCE_TYPE.isAssignableFrom(type)
+					&& super.supportsType(type);
+		}
 
-			return super.supports(type, value) && isValueTypeMatch((Resource<?>) value, getTargetType());
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.DefaultProcessorWrapper#supportsValue(java.lang.Object)
+		 */
+		@Override
+		public boolean supportsValue(Object value) {
+			return isValueTypeMatch((Resource<?>) value, getTargetType(), contentType);
 		}
 
 		/**
@@ -283,19 +660,30 @@ public class ResourceProcessorInvoker {
 		 * @return whether the given {@link Resource} can be assigned to the given target {@link ResolvableType}
 		 */
 		private static boolean isValueTypeMatch(Resource<?> resource, ResolvableType target) {
+			return isValueTypeMatch(resource, target, getContentType(target));
+		}
+
+		private static boolean isValueTypeMatch(Resource<?> resource, ResolvableType target, ResolvableType contentType) {
 
-			if (resource == null || !isRawTypeAssignable(target, resource.getClass())) {
+			if (resource == null || contentType == null || !isRawTypeAssignable(target, resource.getClass())) {
 				return false;
 			}
 
 			Object content = resource.getContent();
 
-			if (content == null) {
-				return false;
-			}
+			return content != null && contentType.isAssignableFrom(ResolvableType.forClass(content.getClass()));
+		}
+
+		/**
+		 * Returns the {@link ResolvableType} of the content of the given {@link Resource} type.
+		 * 
+		 * @param target must not be {@literal null}.
+		 * @return the content type or {@literal null} if it can't be determined.
+		 */
+		private static ResolvableType getContentType(ResolvableType target) {
 
 			ResolvableType type = findGenericType(target, Resource.class);
-			return type != null && type.getGeneric(0).isAssignableFrom(ResolvableType.forClass(content.getClass()));
+			return type == null ? null : type.getGeneric(0);
 		}
 
 		private static ResolvableType findGenericType(ResolvableType source, Class<?> type) {
@@ -333,16 +721,21 @@ public class ResourceProcessorInvoker {
 
 		/*
 		 * (non-Javadoc)
-		 * @see org.springframework.data.rest.webmvc.ResourceProcessorHandlerMethodReturnValueHandler.DefaultProcessorWrapper#supports(org.springframework.core.ResolvableType, java.lang.Object)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.DefaultProcessorWrapper#supportsType(org.springframework.core.ResolvableType)
 		 */
 		@Override
-		public boolean supports(ResolvableType type, Object value) {
-
-			if (!ResourceProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(type)) {
-				return false;
-			}
+		public boolean supportsType(ResolvableType type) {
+			return ResourceProcessorHandlerMethodReturnValueHandler.RESOURCES_TYPE.isAssignableFrom(type)
+					&& super.supportsType(type);
+		}
 
-			return super.supports(type, value) && isValueTypeMatch((Resources<?>) value, getTargetType());
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker.DefaultProcessorWrapper#supportsValue(java.lang.Object)
+		 */
+		@Override
+		public boolean supportsValue(Object value) {
+			return isValueTypeMatch((Resources<?>) value, getTargetType());
 		}
 
 		/**
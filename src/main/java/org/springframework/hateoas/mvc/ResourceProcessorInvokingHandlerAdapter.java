@@ -36,6 +36,10 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
  * <p/>
  * This is a separate component as it might make sense to deploy it in a standalone SpringMVC application to enable post
  * processing. It would actually make most sense in Spring HATEOAS project.
+ * <p/>
+ * Asynchronous return values are supported as described in {@link ResourceProcessorHandlerMethodReturnValueHandler}.
+ * As the concurrent results are dispatched back through the same handlers, no servlet thread is blocked waiting for
+ * them.
  * 
  * @author Oliver Gierke
  * @author Phil Webb
@@ -18,7 +18,6 @@ package org.springframework.hateoas.mvc;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -53,11 +52,24 @@ class SpringMvcAffordanceBuilder {
 	 */
 	public Collection<Affordance> create(MethodInvocation invocation, MappingDiscoverer discoverer,
 			UriComponents components) {
+		return create(invocation, discoverer.getRequestMethod(invocation.getTargetType(), invocation.getMethod()),
+				components);
+	}
+
+	/**
+	 * Creates {@link Affordance}s for the given, already resolved {@link HttpMethod}s of the method invoked.
+	 * 
+	 * @param invocation must not be {@literal null}.
+	 * @param requestMethods must not be {@literal null}.
+	 * @param components must not be {@literal null}.
+	 * @return
+	 */
+	public Collection<Affordance> create(MethodInvocation invocation, Collection<HttpMethod> requestMethods,
+			UriComponents components) {
 
-		Method method = invocation.getMethod();
 		List<Affordance> affordances = new ArrayList<Affordance>();
 
-		for (HttpMethod requestMethod : discoverer.getRequestMethod(invocation.getTargetType(), method)) {
+		for (HttpMethod requestMethod : requestMethods) {
 
 			SpringMvcAffordance affordance = new SpringMvcAffordance(requestMethod, invocation.getMethod());
 
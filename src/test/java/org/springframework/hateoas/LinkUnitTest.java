@@ -113,7 +113,8 @@ public class LinkUnitTest {
 	public void parsesRFC5988HeaderIntoLink() {
 
 		assertThat(Link.valueOf("</something>;rel=\"foo\"")).isEqualTo(new Link("/something", "foo"));
-		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\"")).isEqualTo(new Link("/something", "foo"));
+		assertThat(Link.valueOf("</something>;rel=\"foo\";title=\"Some title\""))
+				.isEqualTo(new Link("/something", "foo").withTitle("Some title"));
 		assertThat(Link.valueOf("</customer/1>;" //
 				+ "rel=\"self\";" //
 				+ "hreflang=\"en\";" //
@@ -223,6 +224,30 @@ public class LinkUnitTest {
 				.isEqualTo("http://acme.com/rels/foo-bar");
 	}
 
+	@Test
+	public void parsesQuotedStringsAndTokens() {
+
+		Link link = Link.valueOf("</something>; REL=foo; title=\"Some, \\\"quoted\\\"; title\"; type=text/html");
+
+		assertThat(link).isEqualTo(new Link("/something", "foo").withTitle("Some, \"quoted\"; title"));
+		assertThat(link.getType()).isEqualTo("text/html");
+	}
+
+	@Test
+	public void usesFirstOccurrenceOfAttribute() {
+		assertThat(Link.valueOf("</something>;rel=\"foo\";rel=\"bar\"").getRel()).isEqualTo("foo");
+	}
+
+	@Test
+	public void rendersAndParsesEscapedQuotedStrings() throws IOException {
+
+		Link link = new Link("/something", "foo").withTitle("Some \"quoted\" title");
+
+		assertThat(link.toString()).isEqualTo("</something>;rel=\"foo\";title=\"Some \\\"quoted\\\" title\"");
+		assertThat(link.appendTo(new StringBuilder("Link: ")).toString()).isEqualTo("Link: " + link.toString());
+		assertThat(Link.valueOf(link.toString())).isEqualTo(link);
+	}
+
 	/**
 	 * @see #340
 	 */
@@ -17,7 +17,10 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Test;
@@ -95,6 +98,25 @@ public class LinksUnitTest {
 		assertThat(twoWithCommaInFirst.getLink("bar")).hasValue(new Link("/somethingElse", "bar"));
 	}
 
+	@Test
+	public void parsesLinkWithCommaInQuotedAttribute() {
+
+		Links links = Links.valueOf("</something>;rel=\"foo\";title=\"foo, bar\"," + SECOND);
+
+		assertThat(links.getLink("foo")).hasValue(new Link("/something", "foo").withTitle("foo, bar"));
+		assertThat(links.getLink("bar")).hasValue(new Link("/somethingElse", "bar"));
+	}
+
+	@Test
+	public void skipsMalformedLinkElements() {
+		assertThat(Links.valueOf("foo;rel=\"bar\", " + LINKS + ", <unterminated")).isEqualTo(reference);
+	}
+
+	@Test
+	public void appendsLinksToAppendable() throws IOException {
+		assertThat(reference.appendTo(new StringBuilder()).toString()).isEqualTo(LINKS);
+	}
+
 	/**
 	 * @see https://tools.ietf.org/html/rfc5988#section-5.5
 	 */
@@ -102,4 +124,21 @@ public class LinksUnitTest {
 	public void parsesLinksWithWhitespace() {
 		assertThat(Links.valueOf(WITH_WHITESPACE)).isEqualTo(reference);
 	}
+
+	@Test
+	public void looksUpLinkByRelOnLargeLinks() {
+
+		List<Link> source = new ArrayList<>();
+
+		for (int i = 0; i < 20; i++) {
+			source.add(new Link("/" + i, "rel" + i % 5));
+		}
+
+		Links links = new Links(source);
+
+		assertThat(links.getLink("rel3")).hasValue(new Link("/3", "rel3"));
+		assertThat(links.hasLink("rel4")).isTrue();
+		assertThat(links.hasLink("self")).isFalse();
+		assertThat(links).containsExactlyElementsOf(source);
+	}
 }
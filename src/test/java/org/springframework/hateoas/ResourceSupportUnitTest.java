@@ -173,4 +173,72 @@ public class ResourceSupportUnitTest {
 		assertThat(support.hasLink("self")).isTrue();
 		assertThat(support.hasLink("another")).isTrue();
 	}
+
+	@Test
+	public void looksUpLinksByRelOnLargeResource() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, i % 2 == 0 ? "even" : "odd"));
+		}
+
+		assertThat(support.getLink("even")).hasValue(new Link("/0", "even"));
+		assertThat(support.getLinks("odd")).hasSize(10).startsWith(new Link("/1", "odd"), new Link("/3", "odd"));
+		assertThat(support.hasLink("self")).isFalse();
+		assertThat(support.getLinks("self")).isEmpty();
+
+		// Order of all links is untouched
+		assertThat(support.getLinks().get(2)).isEqualTo(new Link("/2", "even"));
+	}
+
+	@Test
+	public void reflectsModificationsInLinkLookups() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "item"));
+		}
+
+		assertThat(support.hasLink(Link.REL_SELF)).isFalse();
+
+		support.add(new Link("/self"));
+		assertThat(support.getLink(Link.REL_SELF)).hasValue(new Link("/self"));
+
+		support.getLinks().set(0, new Link("/first", "first"));
+		assertThat(support.getLink("first")).hasValue(new Link("/first", "first"));
+		assertThat(support.getLinks("item")).hasSize(19);
+
+		support.getLinks().remove(new Link("/self"));
+		assertThat(support.hasLink(Link.REL_SELF)).isFalse();
+
+		support.removeLinks();
+		assertThat(support.hasLink("item")).isFalse();
+	}
+
+	@Test
+	public void reflectsReplacementsThroughSubListsInLinkLookups() {
+
+		ResourceSupport support = new ResourceSupport();
+
+		for (int i = 0; i < 20; i++) {
+			support.add(new Link("/" + i, "item"));
+		}
+
+		assertThat(support.getLinks("item")).hasSize(20);
+
+		support.getLinks().subList(0, 5).set(0, new Link("/first", "first"));
+		assertThat(support.getLink("first")).hasValue(new Link("/first", "first"));
+		assertThat(support.getLinks("item")).hasSize(19);
+
+		support.getLinks().subList(5, 15).subList(1, 2).set(0, new Link("/second", "second"));
+		assertThat(support.getLink("second")).hasValue(new Link("/second", "second"));
+		assertThat(support.getLinks("item")).hasSize(18);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyRelationForLookup() {
+		new ResourceSupport().getLink("");
+	}
 }
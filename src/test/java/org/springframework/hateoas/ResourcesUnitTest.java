@@ -17,6 +17,7 @@ package org.springframework.hateoas;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Set;
 
@@ -69,4 +70,14 @@ public class ResourcesUnitTest {
 		assertThat(left).isNotEqualTo(right);
 		assertThat(right).isNotEqualTo(left);
 	}
+
+	@Test
+	public void replacesContentElementAtIndex() {
+
+		Resources<Resource<String>> resources = new Resources<>(
+				Arrays.asList(new Resource<>("foo"), new Resource<>("bar")));
+
+		assertThat(resources.replaceContent(1, new Resource<>("BAR"))).isEqualTo(new Resource<>("bar"));
+		assertThat(resources.getContent()).containsExactly(new Resource<>("foo"), new Resource<>("BAR"));
+	}
 }
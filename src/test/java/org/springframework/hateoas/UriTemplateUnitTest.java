@@ -23,6 +23,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,6 +37,26 @@ import org.springframework.hateoas.TemplateVariable.VariableType;
  */
 public class UriTemplateUnitTest {
 
+	static final Map<String, Object> RFC_VALUES = new HashMap<>();
+
+	static {
+
+		Map<String, String> keys = new LinkedHashMap<>();
+		keys.put("semi", ";");
+		keys.put("dot", ".");
+		keys.put("comma", ",");
+
+		RFC_VALUES.put("var", "value");
+		RFC_VALUES.put("hello", "Hello World!");
+		RFC_VALUES.put("half", "50%");
+		RFC_VALUES.put("path", "/foo/bar");
+		RFC_VALUES.put("x", "1024");
+		RFC_VALUES.put("y", "768");
+		RFC_VALUES.put("empty", "");
+		RFC_VALUES.put("list", Arrays.asList("red", "green", "blue"));
+		RFC_VALUES.put("keys", keys);
+	}
+
 	/**
 	 * @see #137
 	 */
@@ -261,6 +282,161 @@ public class UriTemplateUnitTest {
 		assertThat(template.toString()).isEqualTo("/{?q}");
 	}
 
+	@Test
+	public void expandsLevelTwoExpressions() {
+
+		assertExpansion("{+path}/here", "/foo/bar/here");
+		assertExpansion("here?ref={+path}", "here?ref=/foo/bar");
+		assertExpansion("{+hello}", "Hello%20World!");
+		assertExpansion("{#path,x}/here", "#/foo/bar,1024/here");
+	}
+
+	@Test
+	public void expandsLevelThreeExpressions() {
+
+		assertExpansion("map?{x,y}", "map?1024,768");
+		assertExpansion("X{.var}", "X.value");
+		assertExpansion("X{.x,y}", "X.1024.768");
+		assertExpansion("{/var,x}/here", "/value/1024/here");
+		assertExpansion("{;x,y,empty}", ";x=1024;y=768;empty");
+		assertExpansion("{?x,y,empty}", "?x=1024&y=768&empty=");
+		assertExpansion("?fixed=yes{&x}", "?fixed=yes&x=1024");
+	}
+
+	@Test
+	public void expandsLevelFourExpressions() {
+
+		assertExpansion("{var:3}", "val");
+		assertExpansion("{list}", "red,green,blue");
+		assertExpansion("{keys}", "semi,%3B,dot,.,comma,%2C");
+		assertExpansion("{+keys*}", "semi=;,dot=.,comma=,");
+		assertExpansion("X{.list*}", "X.red.green.blue");
+		assertExpansion("{/list*,path:4}", "/red/green/blue/%2Ffoo");
+		assertExpansion("{;list*}", ";list=red;list=green;list=blue");
+		assertExpansion("{;keys*}", ";semi=%3B;dot=.;comma=%2C");
+		assertExpansion("{?list}", "?list=red,green,blue");
+		assertExpansion("{?keys*}", "?semi=%3B&dot=.&comma=%2C");
+		assertExpansion("{?keys}", "?keys=semi,%3B,dot,.,comma,%2C");
+	}
+
+	@Test
+	public void encodesValuesAccordingToOperator() {
+
+		assertExpansion("{hello}", "Hello%20World%21");
+		assertExpansion("{half}", "50%25");
+		assertExpansion("{+half}", "50%25");
+		assertExpansion("{#hello}", "#Hello%20World!");
+	}
+
+	@Test
+	public void rendersTemplateWithAllOperatorsAndModifiers() {
+
+		String source = "/foo{+path}{;x,y}{.format}{/list*}{?q:3}{#section}";
+		UriTemplate template = new UriTemplate(source);
+
+		assertThat(template.toString()).isEqualTo(source);
+		assertThat(template.getVariables()).containsExactly(new TemplateVariable("path", VariableType.RESERVED_STRING),
+				new TemplateVariable("x", VariableType.PATH_STYLE_PARAMETER),
+				new TemplateVariable("y", VariableType.PATH_STYLE_PARAMETER),
+				new TemplateVariable("format", VariableType.DOT), new TemplateVariable("list", VariableType.SEGMENT),
+				new TemplateVariable("q", VariableType.REQUEST_PARAM), new TemplateVariable("section", VariableType.FRAGMENT));
+	}
+
+	@Test
+	public void appliesParametersInTheOrderOfTheVariablesDeclared() {
+
+		UriTemplate template = new UriTemplate("/orders/{id}/items{?page,size}");
+
+		assertThat(template.expand(4711, 2).toString()).isEqualTo("/orders/4711/items?page=2");
+	}
+
+	@Test
+	public void startsQueryWithFirstRequestParameterGiven() {
+
+		UriTemplate template = new UriTemplate("/foo{?page}{&size}");
+
+		assertThat(template.expand(Collections.singletonMap("size", 20)).toString()).isEqualTo("/foo?size=20");
+	}
+
+	@Test
+	public void continuesExistingQuery() {
+
+		UriTemplate template = new UriTemplate("/foo?bar=1{?page}");
+
+		assertThat(template.toString()).isEqualTo("/foo?bar=1{&page}");
+		assertThat(template.expand(2).toString()).isEqualTo("/foo?bar=1&page=2");
+	}
+
+	@Test
+	public void considersInvalidExpressionsPartOfTheLiteral() {
+
+		UriTemplate template = new UriTemplate("/foo/{bar baz}{?page}");
+
+		assertThat(UriTemplate.isTemplate("/foo/{bar baz}")).isFalse();
+		assertThat(template.getVariableNames()).containsExactly("page");
+		assertThat(template.toString()).isEqualTo("/foo/{bar baz}{?page}");
+		assertThat(template.expand().toString()).isEqualTo("/foo/%7Bbar%20baz%7D");
+	}
+
+	@Test
+	public void addsTemplateVariablesToTrailingExpression() {
+
+		UriTemplate template = new UriTemplate("/foo{?page}").with("size", VariableType.REQUEST_PARAM_CONTINUED);
+
+		assertThat(template.toString()).isEqualTo("/foo{?page,size}");
+		assertThat(template.expand(1, 20).toString()).isEqualTo("/foo?page=1&size=20");
+	}
+
+	@Test
+	public void returnsCachedTemplateForTemplateString() {
+
+		UriTemplate template = UriTemplate.of("/foo/{id}{?page}");
+
+		assertThat(UriTemplate.of("/foo/{id}{?page}")).isSameAs(template);
+		assertThat(template.getVariableNames()).containsExactly("id", "page");
+	}
+
+	@Test
+	public void createsPlainTemplateForUriWithoutVariables() {
+
+		UriTemplate template = UriTemplate.of("/foo?bar=1#baz");
+
+		assertThat(template.getVariables()).isEmpty();
+		assertThat(template.toString()).isEqualTo("/foo?bar=1#baz");
+		assertThat(template.expand().toString()).isEqualTo("/foo?bar=1#baz");
+	}
+
+	@Test
+	public void doesNotAddVariablesForRequestParametersAmongOthers() {
+
+		UriTemplate template = UriTemplate.of("/foo?size=20&page=2#fragment{/bar}");
+
+		assertThat(template.with("page", VariableType.REQUEST_PARAM).getVariableNames()).containsExactly("bar");
+		assertThat(template.with("pag", VariableType.REQUEST_PARAM).getVariableNames()).containsExactly("bar", "pag");
+		assertThat(template.with("anchor", VariableType.FRAGMENT).getVariableNames()).containsExactly("bar");
+	}
+
+	@Test
+	public void keepsSlashColonAndAtForSimpleExpansionInPath() {
+
+		UriTemplate template = new UriTemplate("/foo/{bar}");
+
+		assertThat(template.expand("a/b:c@d").toString()).isEqualTo("/foo/a/b:c@d");
+		assertThat(template.expand("a?b#c!").toString()).isEqualTo("/foo/a%3Fb%23c%21");
+		assertThat(template.expand(Arrays.asList("a,b", "c/d")).toString()).isEqualTo("/foo/a%2Cb,c/d");
+	}
+
+	@Test
+	public void appliesRfcEncodingForSimpleExpansionInQueryAndSegmentExpansion() {
+
+		assertThat(new UriTemplate("/foo?bar={bar}").expand("a/b:c").toString()).isEqualTo("/foo?bar=a%2Fb%3Ac");
+		assertThat(new UriTemplate("/foo{/bar}").expand("a/b:c").toString()).isEqualTo("/foo/a%2Fb%3Ac");
+	}
+
+	private static void assertExpansion(String template, String expected) {
+		assertThat(new UriTemplate(template).expand(RFC_VALUES).toString()).isEqualTo(expected);
+	}
+
 	private static void assertVariables(UriTemplate template, TemplateVariable... variables) {
 		assertVariables(template, Arrays.asList(variables));
 	}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static net.jadler.Jadler.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.client.AsyncTraverson.AsyncTraversalBuilder;
+import org.springframework.hateoas.client.TraversonTest.GitHubLinkDiscoverer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Integration tests for {@link AsyncTraverson}.
+ */
+public class AsyncTraversonTest {
+
+	URI baseUri;
+	Server server;
+	AsyncTraverson traverson;
+
+	@Before
+	public void setUp() {
+
+		this.server = new Server();
+		this.baseUri = URI.create(server.rootResource());
+		this.traverson = new AsyncTraverson(baseUri, MediaTypes.HAL_JSON_UTF8, MediaTypes.HAL_JSON);
+
+		Resource<Actor> actor = new Resource<>(new Actor("Keanu Reaves"));
+		String actorUri = server.mockResourceFor(actor);
+
+		Resource<Movie> movie = new Resource<>(new Movie("The Matrix"));
+		movie.add(new Link(actorUri, "actor"));
+
+		server.mockResourceFor(movie);
+		server.finishMocking();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullBaseUri() {
+		new AsyncTraverson(null, MediaTypes.HAL_JSON);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyMediaTypes() {
+		new AsyncTraverson(baseUri);
+	}
+
+	@Test
+	public void sendsConfiguredMediaTypesInAcceptHeader() {
+
+		traverson.follow().toObject(String.class).block();
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/") //
+				.havingHeader("Accept", contains(MediaTypes.HAL_JSON_UTF8_VALUE + ", " + MediaTypes.HAL_JSON_VALUE)) //
+				.receivedOnce();
+	}
+
+	@Test
+	public void readsTraversalIntoJsonPathExpression() {
+		assertThat(traverson.follow("movies", "movie", "actor").<String> toObject("$.name").block())
+				.isEqualTo("Keanu Reaves");
+	}
+
+	@Test
+	public void readsTraversalIntoResourceInstance() {
+
+		ParameterizedTypeReference<Resource<Actor>> typeReference = new ParameterizedTypeReference<Resource<Actor>>() {};
+		Resource<Actor> result = traverson.follow("movies", "movie", "actor").toObject(typeReference).block();
+
+		assertThat(result.getContent().name).isEqualTo("Keanu Reaves");
+	}
+
+	@Test
+	public void sendsConfiguredHeadersForToEntity() {
+
+		String expectedHeader = "<http://www.example.com>;rel=\"home\"";
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.add("Link", expectedHeader);
+
+		traverson.follow("movies", "movie", "actor") //
+				.withHeaders(headers).toEntity(Actor.class).block();
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/actors/d95dbf62-f900-4dfa-9de8-0fc71e02ffa4") //
+				.havingHeader("Link", hasItem(expectedHeader));
+	}
+
+	@Test
+	public void doesNotSendRequestsBeforeSubscription() {
+
+		traverson.follow("movies", "movie", "actor").toObject(Actor.class);
+
+		verifyThatRequest().receivedNever();
+	}
+
+	@Test
+	public void usesCustomWebClient() {
+
+		AtomicInteger requests = new AtomicInteger();
+
+		WebClient client = WebClient.builder() //
+				.filter((request, next) -> {
+					requests.incrementAndGet();
+					return next.exchange(request);
+				}).build();
+
+		traverson.setWebClient(client);
+		traverson.follow("movies", "movie", "actor").<String> toObject("$.name").block();
+
+		assertThat(requests.get()).isEqualTo(4);
+	}
+
+	@Test
+	public void usesCustomLinkDiscoverer() {
+
+		this.traverson = new AsyncTraverson(URI.create(server.rootResource() + "/github"), MediaType.APPLICATION_JSON);
+		this.traverson.setLinkDiscoverers(Arrays.asList(new GitHubLinkDiscoverer()));
+
+		String value = this.traverson.follow("foo").<String> toObject("$.key").block();
+
+		assertThat(value).isEqualTo("value");
+	}
+
+	@Test
+	public void returnsLinksAndTemplatedLinks() {
+
+		Link result = traverson.follow("movies").asLink().block();
+
+		assertThat(result.getHref()).endsWith("/movies");
+		assertThat(result.getRel()).isEqualTo("movies");
+
+		AsyncTraversalBuilder follow = new AsyncTraverson(URI.create(server.rootResource().concat("/link")),
+				MediaTypes.HAL_JSON).follow("self");
+
+		assertThat(follow.asTemplatedLink().block().isTemplated()).isTrue();
+		assertThat(follow.asLink().block().isTemplated()).isFalse();
+	}
+
+	@Test
+	public void returnsLinksForMultipleRelations() {
+
+		Links links = traverson.follow().asLinks("movies", "actors", "unknown").block();
+
+		assertThat(links.getLink("movies")).hasValueSatisfying(it -> assertThat(it.getHref()).endsWith("/movies"));
+		assertThat(links.hasLink("unknown")).isFalse();
+	}
+
+	@Test
+	public void signalsErrorForMissingLink() {
+
+		assertThatExceptionOfType(IllegalStateException.class) //
+				.isThrownBy(() -> traverson.follow("movies", "unknown").asLink().block()) //
+				.withMessageContaining("unknown");
+	}
+
+	@Test
+	public void executesTraversalsConcurrently() {
+
+		List<String> names = Flux.range(0, 20) //
+				.flatMap(i -> traverson.follow("movies", "movie", "actor").<String> toObject("$.name")) //
+				.collectList() //
+				.block();
+
+		assertThat(names).hasSize(20).containsOnly("Keanu Reaves");
+	}
+
+	@Test
+	public void reExecutesTraversalOnResubscription() {
+
+		Mono<Link> link = traverson.follow("movies").asLink();
+
+		assertThat(link.block()).isEqualTo(link.block());
+
+		verifyThatRequest() //
+				.havingPathEqualTo("/") //
+				.receivedTimes(2);
+	}
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.client.HopCache.Entry;
+import org.springframework.hateoas.client.HopCache.Key;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Unit tests for {@link DefaultHopCache} and {@link HopCache.Entry}.
+ */
+public class DefaultHopCacheUnitTest {
+
+	static final Link LINK = new Link("/next", "next");
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+
+		DefaultHopCache cache = new DefaultHopCache(2, Duration.ofMinutes(1));
+		Entry entry = Entry.of(LINK, maxAge(60), 0);
+
+		cache.put(key("/first"), entry);
+		cache.put(key("/second"), entry);
+		cache.get(key("/first"));
+		cache.put(key("/third"), entry);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(key("/first"))).isEqualTo(entry);
+		assertThat(cache.get(key("/second"))).isNull();
+	}
+
+	@Test
+	public void capsTimeToLive() {
+
+		DefaultHopCache cache = new DefaultHopCache(2, Duration.ofSeconds(10));
+		cache.put(key("/"), Entry.of(LINK, maxAge(3600), 0));
+
+		Entry entry = cache.get(key("/"));
+
+		assertThat(entry.isFresh(9999)).isTrue();
+		assertThat(entry.isFresh(10000)).isFalse();
+	}
+
+	@Test
+	public void keysByAcceptedMediaTypes() {
+
+		DefaultHopCache cache = new DefaultHopCache();
+		cache.put(key("/"), Entry.of(LINK, maxAge(60), 0));
+
+		assertThat(cache.get(Key.of(URI.create("/"), Collections.emptyList(), "next"))).isNull();
+	}
+
+	@Test
+	public void derivesFreshnessFromMaxAge() {
+
+		Entry entry = Entry.of(LINK, maxAge(60), 1000);
+
+		assertThat(entry.isFresh(60999)).isTrue();
+		assertThat(entry.isFresh(61000)).isFalse();
+		assertThat(entry.canRevalidate()).isFalse();
+	}
+
+	@Test
+	public void doesNotCreateEntriesForUncacheableResponses() {
+
+		HttpHeaders noStore = new HttpHeaders();
+		noStore.setCacheControl("no-store, max-age=60");
+		noStore.setETag("\"1\"");
+
+		assertThat(Entry.of(LINK, noStore, 0)).isNull();
+		assertThat(Entry.of(LINK, new HttpHeaders(), 0)).isNull();
+	}
+
+	@Test
+	public void createsStaleEntryForRevalidation() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setCacheControl("no-cache");
+		headers.setETag("\"1\"");
+
+		Entry entry = Entry.of(LINK, headers, 0);
+
+		assertThat(entry.isFresh(0)).isFalse();
+		assertThat(entry.canRevalidate()).isTrue();
+		assertThat(entry.getETag()).isEqualTo("\"1\"");
+	}
+
+	@Test
+	public void keepsLifetimeOnRevalidationWithoutCachingHeaders() {
+
+		HttpHeaders headers = maxAge(60);
+		headers.setETag("\"1\"");
+
+		Entry entry = Entry.of(LINK, headers, 0).revalidated(new HttpHeaders(), 100000);
+
+		assertThat(entry.isFresh(159999)).isTrue();
+		assertThat(entry.isFresh(160000)).isFalse();
+		assertThat(entry.getETag()).isEqualTo("\"1\"");
+	}
+
+	@Test
+	public void fallsBackToExpiresHeader() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setExpires(60000);
+
+		Entry entry = Entry.of(LINK, headers, 1000);
+
+		assertThat(entry.isFresh(59999)).isTrue();
+		assertThat(entry.isFresh(60000)).isFalse();
+	}
+
+	private static Key key(String uri) {
+		return Key.of(URI.create(uri), Collections.singletonList(MediaTypes.HAL_JSON), "next");
+	}
+
+	private static HttpHeaders maxAge(long seconds) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setCacheControl("max-age=" + seconds);
+
+		return headers;
+	}
+}
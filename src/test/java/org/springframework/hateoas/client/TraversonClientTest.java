@@ -0,0 +1,162 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.client.TraversonTest.GitHubLinkDiscoverer;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Integration tests for {@link TraversonClient}.
+ */
+public class TraversonClientTest {
+
+	Server server;
+	TraversonClient client;
+
+	@Before
+	public void setUp() {
+
+		this.server = new Server();
+		this.client = new TraversonClient(MediaTypes.HAL_JSON);
+
+		Resource<Actor> actor = new Resource<>(new Actor("Keanu Reaves"));
+		String actorUri = server.mockResourceFor(actor);
+
+		Resource<Movie> movie = new Resource<>(new Movie("The Matrix"));
+		movie.add(new Link(actorUri, "actor"));
+
+		server.mockResourceFor(movie);
+		server.finishMocking();
+	}
+
+	@After
+	public void tearDown() throws IOException {
+
+		client.close();
+
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsEmptyMediaTypes() {
+		new TraversonClient();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveConnectionPoolSize() {
+		new TraversonClient(Arrays.asList(MediaTypes.HAL_JSON), 0, 0);
+	}
+
+	@Test
+	public void configuresConnectionPoolOfDefaultTransport() {
+
+		assertConnectionPool(client, TraversonClient.DEFAULT_MAX_CONNECTIONS,
+				TraversonClient.DEFAULT_MAX_CONNECTIONS_PER_ROUTE);
+
+		try (TraversonClient client = new TraversonClient(Arrays.asList(MediaTypes.HAL_JSON), 20, 10)) {
+			assertConnectionPool(client, 20, 10);
+		}
+	}
+
+	@Test
+	public void createsTraversonsSharingTransport() {
+
+		URI baseUri = URI.create(server.rootResource());
+
+		for (int i = 0; i < 3; i++) {
+
+			ParameterizedTypeReference<Resource<Actor>> type = new ParameterizedTypeReference<Resource<Actor>>() {};
+			Resource<Actor> result = client.traverson(baseUri).follow("movies", "movie", "actor").toObject(type);
+
+			assertThat(result.getContent().name).isEqualTo("Keanu Reaves");
+		}
+	}
+
+	@Test
+	public void usesGivenRequestFactory() {
+
+		CountingRequestFactory requestFactory = new CountingRequestFactory();
+		TraversonClient client = new TraversonClient(Arrays.asList(MediaTypes.HAL_JSON), requestFactory);
+
+		client.traverson(URI.create(server.rootResource())).follow("movies", "movie", "actor").<String> toObject("$.name");
+		client.traverson(URI.create(server.rootResource())).follow("movies").asLink();
+
+		assertThat(requestFactory.requests).isEqualTo(5);
+	}
+
+	@Test
+	public void usesGivenLinkDiscoverers() {
+
+		TraversonClient client = new TraversonClient(Collections.singletonList(MediaType.APPLICATION_JSON),
+				new SimpleClientHttpRequestFactory(), Arrays.asList(new GitHubLinkDiscoverer()));
+
+		String value = client.traverson(URI.create(server.rootResource() + "/github")).follow("foo").toObject("$.key");
+
+		assertThat(value).isEqualTo("value");
+	}
+
+	private static void assertConnectionPool(TraversonClient client, int maxTotal, int maxPerRoute) {
+
+		RestTemplate template = (RestTemplate) client.getRestOperations();
+		HttpComponentsClientHttpRequestFactory factory = (HttpComponentsClientHttpRequestFactory) template
+				.getRequestFactory();
+		PoolingHttpClientConnectionManager manager = (PoolingHttpClientConnectionManager) ReflectionTestUtils
+				.getField(factory.getHttpClient(), "connManager");
+
+		assertThat(manager.getMaxTotal()).isEqualTo(maxTotal);
+		assertThat(manager.getDefaultMaxPerRoute()).isEqualTo(maxPerRoute);
+	}
+
+	static class CountingRequestFactory extends SimpleClientHttpRequestFactory {
+
+		int requests;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.client.SimpleClientHttpRequestFactory#createRequest(java.net.URI, org.springframework.http.HttpMethod)
+		 */
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+
+			requests++;
+
+			return super.createRequest(uri, httpMethod);
+		}
+	}
+}
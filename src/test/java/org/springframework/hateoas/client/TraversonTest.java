@@ -20,23 +20,33 @@ import static org.assertj.core.api.Assertions.*;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.hateoas.client.Hop.*;
 
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Links;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.client.Traverson.TraversalBuilder;
 import org.springframework.hateoas.core.JsonPathLinkDiscoverer;
+import org.springframework.hateoas.hal.HalLinkDiscoverer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpRequest;
 import org.springframework.http.MediaType;
@@ -46,8 +56,11 @@ import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import com.jayway.jsonpath.DocumentContext;
+
 /**
  * Integration tests for {@link Traverson}.
  * 
@@ -221,6 +234,16 @@ public class TraversonTest {
 		assertThat(result.getRel()).isEqualTo("movies");
 	}
 
+	@Test
+	public void returnsLinksForMultipleRelations() {
+
+		Links links = traverson.follow().asLinks("movies", "actors", "unknown");
+
+		assertThat(links.getLink("movies")).hasValueSatisfying(it -> assertThat(it.getHref()).endsWith("/movies"));
+		assertThat(links.getLink("actors")).hasValueSatisfying(it -> assertThat(it.getHref()).endsWith("/actors"));
+		assertThat(links.hasLink("unknown")).isFalse();
+	}
+
 	/**
 	 * @see #307
 	 */
@@ -380,6 +403,182 @@ public class TraversonTest {
 				.isEqualTo(server.rootResource() + "/springagram/items");
 	}
 
+	@Test
+	public void servesFreshLinksFromHopCache() {
+
+		String root = server.rootResource();
+
+		onRequest().havingPathEqualTo("/cached") //
+				.respond().withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + root + "/cached/next\" }}}") //
+				.withHeader("Cache-Control", "max-age=60");
+		onRequest().havingPathEqualTo("/cached/next") //
+				.respond().withBody("{ \"_links\" : { \"last\" : { \"href\" : \"" + root + "/cached/last\" }}}") //
+				.withHeader("Cache-Control", "public, max-age=60");
+		onRequest().havingPathEqualTo("/cached/last") //
+				.respond().withBody("{ \"name\" : \"Keanu Reaves\" }");
+
+		this.traverson = new Traverson(URI.create(root + "/cached"), MediaTypes.HAL_JSON) //
+				.setHopCache(new DefaultHopCache());
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(traverson.follow("next", "last").<String> toObject("$.name")).isEqualTo("Keanu Reaves");
+		}
+
+		verifyThatRequest().havingPathEqualTo("/cached").receivedOnce();
+		verifyThatRequest().havingPathEqualTo("/cached/next").receivedOnce();
+		verifyThatRequest().havingPathEqualTo("/cached/last").receivedTimes(3);
+	}
+
+	@Test
+	public void revalidatesStaleLinksInHopCacheUsingETag() {
+
+		String root = server.rootResource();
+
+		onRequest().havingPathEqualTo("/etag") //
+				.respond().withBody("{ \"_links\" : { \"next\" : { \"href\" : \"" + root + "/next\" }}}") //
+				.withHeader("ETag", "\"1\"") //
+				.withHeader("Cache-Control", "no-cache");
+		onRequest().havingPathEqualTo("/etag").havingHeaderEqualTo("If-None-Match", "\"1\"") //
+				.respond().withStatus(304);
+
+		this.traverson = new Traverson(URI.create(root + "/etag"), MediaTypes.HAL_JSON) //
+				.setHopCache(new DefaultHopCache());
+
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo(root + "/next");
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo(root + "/next");
+
+		verifyThatRequest().havingPathEqualTo("/etag").receivedTimes(2);
+		verifyThatRequest().havingPathEqualTo("/etag").havingHeader("If-None-Match", hasItem("\"1\"")).receivedOnce();
+	}
+
+	@Test
+	public void doesNotCacheLinksWithoutCachingHeaders() {
+
+		traverson.setHopCache(new DefaultHopCache());
+
+		traverson.follow("movies").asLink();
+		traverson.follow("movies").asLink();
+
+		verifyThatRequest().havingPathEqualTo("/").receivedTimes(2);
+	}
+
+	@Test
+	public void followsLinksInLargeIntermediateRepresentations() {
+
+		String root = server.rootResource();
+		StringBuilder builder = new StringBuilder("{ \"_links\" : { \"next\" : { \"href\" : \"" + root
+				+ "/github\" }}, \"_embedded\" : { \"items\" : [");
+
+		for (int i = 0; i < 10000; i++) {
+			builder.append(i == 0 ? "" : ",").append("{ \"name\" : \"item ").append(i).append("\" }");
+		}
+
+		// Invalid JSON after the links, would break the hop if the representation was read entirely
+		String body = builder.append("]}, this is not JSON }").toString();
+
+		onRequest().havingPathEqualTo("/large") //
+				.respond().withBody(body);
+
+		StreamTrackingHalLinkDiscoverer discoverer = new StreamTrackingHalLinkDiscoverer();
+
+		this.traverson = new Traverson(URI.create(root + "/large"), MediaTypes.HAL_JSON) //
+				.setLinkDiscoverers(Arrays.asList(discoverer));
+
+		assertThat(traverson.follow("next").asLink().getHref()).isEqualTo(root + "/github");
+		assertThat(discoverer.bytesRead).hasSize(1);
+		assertThat(discoverer.bytesRead.get(0)).isLessThan(body.length() / 10);
+	}
+
+	@Test
+	public void followsEachLinkFoundByJsonPathExpression() {
+
+		String root = server.rootResource();
+		StringBuilder builder = new StringBuilder("{ \"_embedded\" : { \"orders\" : [");
+
+		for (int i = 0; i < 5; i++) {
+
+			builder.append(i == 0 ? "" : ",") //
+					.append("{ \"_links\" : { \"self\" : { \"href\" : \"" + root + "/orders/" + i + "\" }}}");
+
+			onRequest().havingPathEqualTo("/orders/" + i) //
+					.respond().withBody("{ \"id\" : " + i + " }");
+		}
+
+		onRequest().havingPathEqualTo("/orders") //
+				.respond().withBody(builder.append("]}}").toString());
+		onRequest().havingPathEqualTo("/shop") //
+				.respond().withBody("{ \"_links\" : { \"orders\" : { \"href\" : \"" + root + "/orders\" }}}");
+
+		this.traverson = new Traverson(URI.create(root + "/shop"), MediaTypes.HAL_JSON);
+
+		List<Integer> ids = traverson.follow("orders") //
+				.followEach("$._embedded.orders[*]._links.self.href") //
+				.withParallelism(2) //
+				.<Integer> toObject("$.id");
+
+		assertThat(ids).containsExactly(0, 1, 2, 3, 4);
+
+		verifyThatRequest().havingPathEqualTo("/shop").receivedOnce();
+		verifyThatRequest().havingPathEqualTo("/orders").receivedOnce();
+	}
+
+	@Test
+	public void followsEachLinkWithRelation() {
+
+		List<String> titles = traverson.follow("movies").followEach("movie").toObject("$.title");
+
+		assertThat(titles).containsExactly("The Matrix");
+	}
+
+	@Test
+	public void returnsNoResultsIfNoLinkToFollowEachIsFound() {
+		assertThat(traverson.follow("movies").followEach("unknown").toObject(String.class)).isEmpty();
+	}
+
+	@Test
+	public void propagatesFailuresWhenFollowingEachLink() {
+
+		String root = server.rootResource();
+
+		onRequest().havingPathEqualTo("/broken") //
+				.respond().withBody("{ \"_links\" : { \"item\" : [ { \"href\" : \"" + root
+						+ "/github\" }, { \"href\" : \"" + root + "/missing\" } ]}}");
+		onRequest().havingPathEqualTo("/missing").respond().withStatus(404);
+
+		this.traverson = new Traverson(URI.create(root + "/broken"), MediaTypes.HAL_JSON);
+
+		assertThatExceptionOfType(HttpClientErrorException.class) //
+				.isThrownBy(() -> traverson.follow().followEach("item").toObject(String.class));
+	}
+
+	@Test
+	public void evaluatesMultipleJsonPathExpressionsAgainstSingleRepresentation() {
+
+		DocumentContext document = traverson.follow("movies", "movie", "actor").toDocument();
+
+		assertThat(document.<String> read("$.name")).isEqualTo("Keanu Reaves");
+		assertThat(document.<Map<String, Object>> read("$")).containsEntry("name", "Keanu Reaves");
+
+		verifyThatRequest() //
+				.havingPath(startsWith("/actors/")) //
+				.receivedOnce();
+	}
+
+	@Test
+	public void returnsJsonSmartTypesForUntypedJsonPathResults() {
+
+		assertThat(traverson.follow("movies", "movie", "actor").<Object> toObject("$")).isInstanceOf(JSONObject.class);
+		assertThat(traverson.follow("movies", "movie", "actor").<Object> toObject("$..name")).isInstanceOf(JSONArray.class);
+	}
+
+	@Test
+	public void mapsJsonPathResultOntoType() {
+
+		Actor actor = traverson.follow("movies", "movie", "actor").toObject("$", Actor.class);
+
+		assertThat(actor.name).isEqualTo("Keanu Reaves");
+	}
+
 	private void setUpActors() {
 
 		Resource<Actor> actor = new Resource<>(new Actor("Keanu Reaves"));
@@ -405,6 +604,82 @@ public class TraversonTest {
 		}
 	}
 
+	/**
+	 * {@link HalLinkDiscoverer} rejecting buffered representations and recording how many bytes of the streamed ones
+	 * were read.
+	 */
+	static class StreamTrackingHalLinkDiscoverer extends HalLinkDiscoverer {
+
+		final List<Long> bytesRead = new ArrayList<>();
+
+		@Override
+		public List<Link> findLinksWithRel(String rel, String representation) {
+			throw new UnsupportedOperationException("Representation expected to be streamed!");
+		}
+
+		@Override
+		public List<Link> findLinksWithRel(String rel, InputStream representation) {
+			return track(representation, it -> super.findLinksWithRel(rel, it));
+		}
+
+		@Override
+		public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, String representation) {
+			throw new UnsupportedOperationException("Representation expected to be streamed!");
+		}
+
+		@Override
+		public Map<String, List<Link>> findLinksWithRels(Collection<String> rels, InputStream representation) {
+			return track(representation, it -> super.findLinksWithRels(rels, it));
+		}
+
+		private <T> T track(InputStream representation, Function<InputStream, T> lookup) {
+
+			CountingInputStream stream = new CountingInputStream(representation);
+
+			try {
+				return lookup.apply(stream);
+			} finally {
+				bytesRead.add(stream.count);
+			}
+		}
+	}
+
+	static class CountingInputStream extends FilterInputStream {
+
+		long count;
+
+		CountingInputStream(InputStream delegate) {
+			super(delegate);
+		}
+
+		@Override
+		public int read() throws IOException {
+
+			int result = super.read();
+			count += result == -1 ? 0 : 1;
+
+			return result;
+		}
+
+		@Override
+		public int read(byte[] buffer, int offset, int length) throws IOException {
+
+			int result = super.read(buffer, offset, length);
+			count += Math.max(result, 0);
+
+			return result;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+
+			long result = super.skip(n);
+			count += result;
+
+			return result;
+		}
+	}
+
 	static class GitHubLinkDiscoverer extends JsonPathLinkDiscoverer {
 
 		public GitHubLinkDiscoverer() {
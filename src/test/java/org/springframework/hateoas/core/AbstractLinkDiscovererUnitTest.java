@@ -19,7 +19,9 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 import org.springframework.hateoas.Link;
@@ -32,6 +34,8 @@ import org.springframework.hateoas.LinkDiscoverer;
  */
 public abstract class AbstractLinkDiscovererUnitTest {
 
+	private static final List<String> MULTIPLE_RELS = Arrays.asList("self", "relation", "something");
+
 	@Test
 	public void findsSingleLink() {
 
@@ -76,6 +80,27 @@ public abstract class AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().findLinkWithRel("something", getInputStringWithoutLinkContainer())).isNull();
 	}
 
+	@Test
+	public void findsLinksForMultipleRelsAtOnce() {
+		assertLinksForMultipleRels(getDiscoverer().findLinksWithRels(MULTIPLE_RELS, getInputString()));
+	}
+
+	@Test
+	public void findsLinksForMultipleRelsAtOnceFromInputStream() throws Exception {
+
+		InputStream inputStream = new ByteArrayInputStream(getInputString().getBytes("UTF-8"));
+		assertLinksForMultipleRels(getDiscoverer().findLinksWithRels(MULTIPLE_RELS, inputStream));
+	}
+
+	private static void assertLinksForMultipleRels(Map<String, List<Link>> links) {
+
+		assertThat(links).containsOnlyKeys("self", "relation", "something");
+		assertThat(links.get("self")).containsExactly(new Link("selfHref"));
+		assertThat(links.get("relation")).containsExactly(new Link("firstHref", "relation"),
+				new Link("secondHref", "relation"));
+		assertThat(links.get("something")).isEmpty();
+	}
+
 	/**
 	 * Return the {@link LinkDiscoverer} to be tested.
 	 * 
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.Test;
+import org.springframework.hateoas.RelProvider;
+
+/**
+ * Unit tests for {@link CachingRelProvider}.
+ */
+public class CachingRelProviderUnitTest {
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNullDelegate() {
+		new CachingRelProvider(null);
+	}
+
+	@Test
+	public void cachesRelationsPerType() {
+
+		RelProvider delegate = mock(RelProvider.class);
+		doReturn("sample").when(delegate).getItemResourceRelFor(Sample.class);
+		doReturn("samples").when(delegate).getCollectionResourceRelFor(Sample.class);
+		doReturn(true).when(delegate).supports(Sample.class);
+
+		RelProvider provider = new CachingRelProvider(delegate);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(provider.getItemResourceRelFor(Sample.class)).isEqualTo("sample");
+			assertThat(provider.getCollectionResourceRelFor(Sample.class)).isEqualTo("samples");
+			assertThat(provider.supports(Sample.class)).isTrue();
+		}
+
+		verify(delegate, times(1)).getItemResourceRelFor(Sample.class);
+		verify(delegate, times(1)).getCollectionResourceRelFor(Sample.class);
+		verify(delegate, times(1)).supports(Sample.class);
+	}
+
+	@Test
+	public void cachesAbsentRelations() {
+
+		RelProvider delegate = mock(RelProvider.class);
+		RelProvider provider = new CachingRelProvider(delegate);
+
+		assertThat(provider.getItemResourceRelFor(Sample.class)).isNull();
+		assertThat(provider.getItemResourceRelFor(Sample.class)).isNull();
+
+		verify(delegate, times(1)).getItemResourceRelFor(Sample.class);
+	}
+
+	static class Sample {}
+}
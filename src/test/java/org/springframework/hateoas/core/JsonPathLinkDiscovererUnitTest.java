@@ -15,7 +15,11 @@
  */
 package org.springframework.hateoas.core;
 
+import static org.assertj.core.api.Assertions.*;
+
 import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.LinkDiscoverer;
 import org.springframework.http.MediaType;
 
 /**
@@ -39,4 +43,30 @@ public class JsonPathLinkDiscovererUnitTest {
 	public void rejectsPatternWithMultiplePlaceholders() {
 		new JsonPathLinkDiscoverer("$links%s%s", MediaType.ALL);
 	}
+
+	@Test
+	public void findsLinksConsistentlyOnRepeatedLookups() {
+
+		LinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links[?(@.rel == '%s')].href", MediaType.ALL);
+		String source = "{ \"links\" : [ { \"rel\" : \"self\", \"href\" : \"selfHref\" }, "
+				+ "{ \"rel\" : \"other\", \"href\" : \"otherHref\" } ] }";
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(discoverer.findLinkWithRel("self", source)).isEqualTo(new Link("selfHref", "self"));
+			assertThat(discoverer.findLinkWithRel("other", source)).isEqualTo(new Link("otherHref", "other"));
+		}
+	}
+
+	@Test
+	public void findsLinksForRelationsBeyondExpressionCacheLimit() {
+
+		LinkDiscoverer discoverer = new JsonPathLinkDiscoverer("$.links[?(@.rel == '%s')].href", MediaType.ALL);
+		String source = "{ \"links\" : [ { \"rel\" : \"self\", \"href\" : \"selfHref\" } ] }";
+
+		for (int i = 0; i < 300; i++) {
+			assertThat(discoverer.findLinksWithRel("rel" + i, source)).isEmpty();
+		}
+
+		assertThat(discoverer.findLinkWithRel("self", source)).isEqualTo(new Link("selfHref", "self"));
+	}
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ParallelUtils}.
+ */
+public class ParallelUtilsUnitTest {
+
+	static final Executor THREAD_PER_TASK = task -> new Thread(task).start();
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNonPositiveParallelism() {
+		ParallelUtils.forEachIndex(1, 0, THREAD_PER_TASK, index -> {});
+	}
+
+	@Test
+	public void invokesActionOnceForEveryIndex() {
+
+		AtomicIntegerArray invocations = new AtomicIntegerArray(100);
+
+		ParallelUtils.forEachIndex(100, 4, THREAD_PER_TASK, invocations::incrementAndGet);
+
+		for (int i = 0; i < invocations.length(); i++) {
+			assertThat(invocations.get(i)).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void waitsForPooledWorkersIfCallingThreadFails() throws Exception {
+
+		Thread caller = Thread.currentThread();
+		CountDownLatch pooledWorkerStarted = new CountDownLatch(1);
+		AtomicBoolean pooledWorkerFinished = new AtomicBoolean();
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> {
+
+			ParallelUtils.forEachIndex(2, 2, THREAD_PER_TASK, index -> {
+
+				if (Thread.currentThread() != caller) {
+
+					pooledWorkerStarted.countDown();
+					sleep(100);
+					pooledWorkerFinished.set(true);
+
+					return;
+				}
+
+				await(pooledWorkerStarted);
+
+				throw new IllegalStateException();
+			});
+		});
+
+		assertThat(pooledWorkerFinished.get()).isTrue();
+	}
+
+	@Test
+	public void propagatesFailureOfPooledWorker() {
+
+		Thread caller = Thread.currentThread();
+		CountDownLatch pooledWorkerFailed = new CountDownLatch(1);
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> {
+
+			ParallelUtils.forEachIndex(10, 2, THREAD_PER_TASK, index -> {
+
+				if (Thread.currentThread() != caller) {
+					pooledWorkerFailed.countDown();
+					throw new IllegalStateException();
+				}
+
+				await(pooledWorkerFailed);
+			});
+		});
+	}
+
+	private static void sleep(long millis) {
+
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+}
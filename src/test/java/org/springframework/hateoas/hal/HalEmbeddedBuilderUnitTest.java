@@ -18,6 +18,8 @@ package org.springframework.hateoas.hal;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -172,6 +174,47 @@ public class HalEmbeddedBuilderUnitTest {
 		new HalEmbeddedBuilder(provider, curieProvider, false).add(mock(EmbeddedWrapper.class));
 	}
 
+	@Test
+	public void collectsLargeNumberOfElementsInOrder() {
+
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, null, false);
+		List<Object> values = new ArrayList<>();
+
+		for (long i = 0; i < 5000; i++) {
+			builder.add(i);
+			values.add(i);
+		}
+
+		assertThat(builder.asMap().get("longs")).isEqualTo(values);
+	}
+
+	@Test
+	public void doesNotAlterAddedCollections() {
+
+		List<String> strings = Arrays.asList("foo", "bar");
+
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, null, false);
+		builder.add(new EmbeddedWrappers(false).wrap(strings, "strings"));
+		builder.add("foobar");
+
+		assertHasValues(builder.asMap(), "strings", "foo", "bar", "foobar");
+		assertThat(strings).containsExactly("foo", "bar");
+	}
+
+	@Test
+	public void detectsCuriedRelations() {
+
+		HalEmbeddedBuilder builder = new HalEmbeddedBuilder(provider, curieProvider, false);
+		builder.add("foo");
+
+		assertThat(builder.hasCuriedRel()).isTrue();
+
+		builder = new HalEmbeddedBuilder(provider, null, false);
+		builder.add("foo");
+
+		assertThat(builder.hasCuriedRel()).isFalse();
+	}
+
 	@SuppressWarnings("unchecked")
 	private static void assertHasValues(Map<String, Object> source, String rel, Object... values) {
 
@@ -17,6 +17,10 @@ package org.springframework.hateoas.hal;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverer;
@@ -55,6 +59,33 @@ public class HalLinkDiscovererUnitTest extends AbstractLinkDiscovererUnitTest {
 		assertThat(getDiscoverer().supports(MediaTypes.HAL_JSON_UTF8)).isTrue();
 	}
 
+	@Test
+	public void ignoresLinksOfEmbeddedResources() {
+
+		String source = "{ _embedded : { orders : [ { _links : { self : { href : 'embeddedHref' } } } ] }, " + //
+				"_links : { self : { href : 'selfHref' } } }";
+
+		assertThat(getDiscoverer().findLinksWithRel("self", source)).containsExactly(new Link("selfHref"));
+	}
+
+	@Test
+	public void findsLinksFromInputStream() throws Exception {
+
+		InputStream stream = new ByteArrayInputStream(SAMPLE.getBytes(StandardCharsets.UTF_8));
+
+		assertThat(getDiscoverer().findLinksWithRel("relation", stream)) //
+				.containsExactly(new Link("firstHref", "relation"), new Link("secondHref", "relation"));
+	}
+
+	@Test
+	public void ignoresLinkObjectsWithoutHref() {
+
+		String source = "{ _links : { relation : [ { title : 'No href' }, { href : 'firstHref' } ] } }";
+
+		assertThat(getDiscoverer().findLinksWithRel("relation", source))
+				.containsExactly(new Link("firstHref", "relation"));
+	}
+
 	@Override
 	protected LinkDiscoverer getDiscoverer() {
 		return discoverer;
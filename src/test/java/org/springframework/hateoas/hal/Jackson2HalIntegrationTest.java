@@ -45,6 +45,7 @@ import org.springframework.hateoas.hal.HalConfiguration.RenderSingleLinks;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * Integration tests for Jackson 2 HAL integration.
@@ -157,6 +158,31 @@ public class Jackson2HalIntegrationTest extends AbstractJackson2MarshallingInteg
 		assertThat(read(LIST_LINK_REFERENCE, ResourceSupport.class)).isEqualTo(expected);
 	}
 
+	@Test
+	public void groupsNonAdjacentLinksWithSameRelation() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("localhost"));
+		resourceSupport.add(new Link("/orders", "orders"));
+		resourceSupport.add(new Link("localhost2"));
+
+		assertThat(write(resourceSupport)).isEqualTo("{\"_links\":{\"self\":[{\"href\":\"localhost\"},"
+				+ "{\"href\":\"localhost2\"}],\"orders\":{\"href\":\"/orders\"}}}");
+	}
+
+	@Test
+	public void ordersLinkRelationsIfConfigured() throws Exception {
+
+		ResourceSupport resourceSupport = new ResourceSupport();
+		resourceSupport.add(new Link("localhost"));
+		resourceSupport.add(new Link("/orders", "orders"));
+
+		mapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+		assertThat(write(resourceSupport))
+				.isEqualTo("{\"_links\":{\"orders\":{\"href\":\"/orders\"},\"self\":{\"href\":\"localhost\"}}}");
+	}
+
 	@Test
 	public void rendersSimpleResourcesAsEmbedded() throws Exception {
 
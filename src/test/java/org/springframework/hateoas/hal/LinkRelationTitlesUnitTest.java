@@ -0,0 +1,126 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.hateoas.hal;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Locale;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.MessageSourceAccessor;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.hateoas.Link;
+
+/**
+ * Unit tests for {@link LinkRelationTitles}.
+ */
+public class LinkRelationTitlesUnitTest {
+
+	CountingMessageSource messageSource;
+	LinkRelationTitles titles;
+
+	@Before
+	public void setUp() {
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		this.messageSource = new CountingMessageSource();
+		this.titles = new LinkRelationTitles(new MessageSourceAccessor(messageSource));
+	}
+
+	@After
+	public void tearDown() {
+		LocaleContextHolder.resetLocaleContext();
+	}
+
+	@Test
+	public void resolvesTitleForFullRelationAndLocalPartOfCuriedOne() {
+
+		messageSource.addMessage("_links.ns:foo.title", Locale.US, "Foo");
+		messageSource.addMessage("_links.bar.title", Locale.US, "Bar");
+
+		assertThat(titles.getTitle(new Link("/foo", "ns:foo"))).isEqualTo("Foo");
+		assertThat(titles.getTitle(new Link("/bar", "ns:bar"))).isEqualTo("Bar");
+		assertThat(titles.getTitle(new Link("/bar", "bar"))).isEqualTo("Bar");
+	}
+
+	@Test
+	public void cachesMissingTitles() {
+
+		Link link = new Link("/foo", "ns:foo");
+
+		assertThat(titles.getTitle(link)).isNull();
+		assertThat(titles.getTitle(link)).isNull();
+
+		assertThat(messageSource.lookups).isEqualTo(2);
+	}
+
+	@Test
+	public void cachesTitlesPerLocale() {
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+		messageSource.addMessage("_links.foo.title", Locale.GERMANY, "Foo (de)");
+
+		Link link = new Link("/foo", "foo");
+
+		assertThat(titles.getTitle(link)).isEqualTo("Foo");
+
+		LocaleContextHolder.setLocale(Locale.GERMANY);
+
+		assertThat(titles.getTitle(link)).isEqualTo("Foo (de)");
+	}
+
+	@Test
+	public void picksUpChangedMessagesAfterClearing() {
+
+		Link link = new Link("/foo", "foo");
+
+		assertThat(titles.getTitle(link)).isNull();
+
+		messageSource.addMessage("_links.foo.title", Locale.US, "Foo");
+
+		assertThat(titles.getTitle(link)).isNull();
+
+		titles.clear();
+
+		assertThat(titles.getTitle(link)).isEqualTo("Foo");
+	}
+
+	@Test
+	public void returnsNoTitleWithoutMessageSource() {
+		assertThat(new LinkRelationTitles(null).getTitle(new Link("/foo", "foo"))).isNull();
+	}
+
+	static class CountingMessageSource extends StaticMessageSource {
+
+		int lookups;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.context.support.StaticMessageSource#resolveCodeWithoutArguments(java.lang.String, java.util.Locale)
+		 */
+		@Override
+		protected String resolveCodeWithoutArguments(String code, Locale locale) {
+
+			lookups++;
+
+			return super.resolveCodeWithoutArguments(code, locale);
+		}
+	}
+}
@@ -173,6 +173,35 @@ public class ControllerLinkBuilderFactoryUnitTest extends TestUtils {
 		assertThat(link.getHref()).endsWith("/people/17/addresses");
 	}
 
+	@Test
+	public void appliesContributorsConfiguredAfterLinksHaveBeenCreated() {
+
+		ControllerLinkBuilderFactory factory = new ControllerLinkBuilderFactory();
+
+		SpecialType specialType = new SpecialType();
+		specialType.parameterValue = "value";
+
+		Link link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+		assertThat(link.getHref()).endsWith("/sample/1");
+
+		factory.setUriComponentsContributors(Arrays.asList(new SampleUriComponentsContributor()));
+
+		link = factory.linkTo(methodOn(SampleController.class).sampleMethod(1L, specialType)).withSelfRel();
+		assertThat(link.getHref()).endsWith("/sample/1?foo=value");
+	}
+
+	@Test
+	public void bindsRequestParametersConsistentlyOnRepeatedInvocations() {
+
+		for (int i = 0; i < 3; i++) {
+
+			Link link = factory.linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", null, 5)).withSelfRel();
+
+			assertThat(link.getVariableNames()).containsExactly("offset");
+			assertThat(link.expand().getHref()).endsWith("/something/1/foo?limit=5");
+		}
+	}
+
 	interface SampleController {
 
 		@RequestMapping("/sample/{id}")
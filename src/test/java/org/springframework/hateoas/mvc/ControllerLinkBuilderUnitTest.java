@@ -36,6 +36,7 @@ import org.springframework.hateoas.TemplateVariable.VariableType;
 import org.springframework.hateoas.TestUtils;
 import org.springframework.http.HttpEntity;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -590,6 +591,56 @@ public class ControllerLinkBuilderUnitTest extends TestUtils {
 		assertThat(link.getHref()).isEqualTo("http://localhost/something/bar/foo");
 	}
 
+	@Test
+	public void expandsLinkTemplateFromPlainArguments() {
+
+		Method method = ReflectionUtils.findMethod(ControllerWithMethods.class, "methodForNextPage", String.class,
+				Integer.class, Integer.class);
+
+		Link link = template(ControllerWithMethods.class, method).expand("1", 10, 5).withSelfRel();
+
+		assertThat(link.getHref())
+				.isEqualTo(linkTo(methodOn(ControllerWithMethods.class).methodForNextPage("1", 10, 5)).withSelfRel().getHref());
+	}
+
+	@Test
+	public void linkTemplateExposesOptionalRequestParametersAsTemplateVariables() {
+
+		Method method = ReflectionUtils.findMethod(ControllerWithMethods.class, "methodForOptionalNextPage",
+				Integer.class);
+
+		Link link = template(ControllerWithMethods.class, method).expand((Object) null).withSelfRel();
+
+		assertThat(link.getVariables(), contains(new TemplateVariable("offset", VariableType.REQUEST_PARAM)));
+	}
+
+	@Test
+	public void linkTemplateUsesTypeParameters() {
+
+		Method method = ReflectionUtils.findMethod(PersonsAddressesController.class, "getAddressesForCountry",
+				String.class);
+
+		Link link = template(PersonsAddressesController.class, method).withTypeParameters(15).expand("DE").withSelfRel();
+
+		assertThat(link.getHref()).endsWith("/people/15/addresses/DE");
+	}
+
+	@Test
+	public void returnsCachedLinkTemplate() {
+
+		Method method = ReflectionUtils.findMethod(ControllerWithMethods.class, "methodWithPathVariable", String.class);
+
+		assertThat(template(ControllerWithMethods.class, method)).isSameAs(template(ControllerWithMethods.class, method));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void linkTemplateRejectsInvalidNumberOfArguments() {
+
+		Method method = ReflectionUtils.findMethod(ControllerWithMethods.class, "methodWithPathVariable", String.class);
+
+		template(ControllerWithMethods.class, method).expand("1", "2");
+	}
+
 	private static UriComponents toComponents(Link link) {
 		return UriComponentsBuilder.fromUriString(link.expand().getHref()).build();
 	}
@@ -18,15 +18,23 @@ package org.springframework.hateoas.mvc;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.*;
 import static org.springframework.util.ReflectionUtils.*;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -37,18 +45,27 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.MethodParameter;
 import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.hateoas.BatchResourceProcessor;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.PagedResources.PageMetadata;
 import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.ResourceProcessor;
 import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.ThreadSafeResourceProcessor;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.hateoas.mvc.ResourceProcessorInvoker.ResourcesProcessorWrapper;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.util.ReflectionUtils.MethodCallback;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
 import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
 
 /**
@@ -316,6 +333,244 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		invokeReturnValueHandler("wildcardedResources", FOOS, BARS);
 	}
 
+	@Test
+	public void reusesDispatchForValuesOfDifferentContentTypes() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+		resourceProcessors.add(LongResourceProcessor.INSTANCE);
+
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors);
+		ResolvableType type = ResolvableType.forMethodReturnType(Controller.class.getMethod("resource"));
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(invoker.invokeProcessorsFor(FOO, type)).isEqualTo(BAR);
+			assertThat(invoker.invokeProcessorsFor(LONG_10, type)).isEqualTo(LONG_20);
+			assertThat(invoker.invokeProcessorsFor(FOO_RES, type)).isEqualTo(BAR);
+		}
+	}
+
+	@Test
+	public void doesNotApplyProcessorsForOtherTypesOnRepeatedInvocation() throws Exception {
+
+		resourceProcessors.add(StringResourcesProcessor.INSTANCE);
+		resourceProcessors.add(SpecializedLongResourceProcessor.INSTANCE);
+
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(invoker.invokeProcessorsFor(LONG_10)).isEqualTo(LONG_10);
+			assertThat(invoker.invokeProcessorsFor(LONG_10_RES)).isEqualTo(LONG_20_RES);
+		}
+	}
+
+	@Test
+	public void processesElementsInParallelForThreadSafeProcessors() throws Exception {
+
+		resourceProcessors.add(new SuffixingResourceProcessor());
+
+		AtomicInteger executions = new AtomicInteger();
+		ResourceProcessorInvoker invoker = createInvoker(executions);
+
+		Resources<Resource<String>> result = invoker.invokeProcessorsFor(createResources(20),
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(executions.get()).isEqualTo(3);
+		assertThat(result.getContent()).extracting(Resource::getContent)
+				.containsExactlyElementsOf(IntStream.range(0, 20).mapToObj(it -> it + "!").collect(Collectors.toList()));
+	}
+
+	@Test
+	public void exposesCurrentRequestToParallelWorkers() throws Exception {
+
+		resourceProcessors.add(new LinkingResourceProcessor());
+
+		AtomicInteger executions = new AtomicInteger();
+		ResourceProcessorInvoker invoker = createInvoker(executions);
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		try {
+
+			Resources<Resource<String>> result = invoker.invokeProcessorsFor(createResources(200),
+					ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+			assertThat(executions.get()).isEqualTo(3);
+			assertThat(result.getContent()).allSatisfy(it -> assertThat(it.getId().getHref()) //
+					.isEqualTo("http://localhost/samples/" + it.getContent()));
+
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	@Test
+	public void processesElementsSequentiallyIfAnyProcessorIsNotThreadSafe() throws Exception {
+
+		resourceProcessors.add(new SuffixingResourceProcessor());
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		AtomicInteger executions = new AtomicInteger();
+		ResourceProcessorInvoker invoker = createInvoker(executions);
+
+		Resources<Resource<String>> result = invoker.invokeProcessorsFor(createResources(20),
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(executions.get()).isEqualTo(0);
+		assertThat(result.getContent()).hasSize(20).allMatch(BAR::equals);
+	}
+
+	@Test
+	public void processesElementsSequentiallyBelowThreshold() throws Exception {
+
+		resourceProcessors.add(new SuffixingResourceProcessor());
+
+		AtomicInteger executions = new AtomicInteger();
+		ResourceProcessorInvoker invoker = createInvoker(executions);
+
+		invoker.invokeProcessorsFor(createResources(9),
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(executions.get()).isEqualTo(0);
+	}
+
+	@Test
+	public void invokesBatchProcessorOnceForAllElements() throws Exception {
+
+		SuffixingBatchResourceProcessor processor = new SuffixingBatchResourceProcessor();
+		resourceProcessors.add(processor);
+
+		invokeReturnValueHandler("resources", createResources(3), new Resources<>(Arrays.asList( //
+				new Resource<>("0?"), new Resource<>("1?"), new Resource<>("2?"))));
+
+		assertThat(processor.batchSizes).containsExactly(3);
+	}
+
+	@Test
+	public void invokesBatchProcessorInOrderWithOtherProcessors() throws Exception {
+
+		SuffixingBatchResourceProcessor processor = new SuffixingBatchResourceProcessor();
+
+		resourceProcessors.add(new SuffixingResourceProcessor());
+		resourceProcessors.add(processor);
+		resourceProcessors.add(new PrefixingResourceProcessor());
+
+		AtomicInteger executions = new AtomicInteger();
+		ResourceProcessorInvoker invoker = createInvoker(executions);
+
+		Resources<Resource<String>> result = invoker.invokeProcessorsFor(createResources(20),
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(processor.batchSizes).containsExactly(20);
+		assertThat(executions.get()).isEqualTo(6);
+		assertThat(result.getContent()).extracting(Resource::getContent).containsExactlyElementsOf(
+				IntStream.range(0, 20).mapToObj(it -> "<" + it + "?!").collect(Collectors.toList()));
+	}
+
+	@Test
+	public void invokesBatchProcessorForSingleResource() throws Exception {
+
+		SuffixingBatchResourceProcessor processor = new SuffixingBatchResourceProcessor();
+		resourceProcessors.add(processor);
+
+		invokeReturnValueHandler("resource", FOO, new Resource<>("foo?"));
+
+		assertThat(processor.batchSizes).containsExactly(1);
+	}
+
+	@Test
+	public void doesNotReplaceContentIfProcessorsOnlyAddLinks() throws Exception {
+
+		resourceProcessors.add(new LinkAddingResourceProcessor());
+
+		Resource<String> element = new Resource<>("foo");
+		TrackingResources resources = new TrackingResources(element);
+
+		new ResourceProcessorInvoker(resourceProcessors).invokeProcessorsFor(resources,
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(resources.replaced).isEmpty();
+		assertThat(resources.getContent()).containsExactly(element);
+		assertThat(element.getLinks()).containsExactly(new Link("/foo"));
+	}
+
+	@Test
+	public void replacesContentIfProcessorReplacesElement() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		TrackingResources resources = new TrackingResources(FOO);
+
+		new ResourceProcessorInvoker(resourceProcessors).invokeProcessorsFor(resources,
+				ResolvableType.forMethodReturnType(Controller.class.getMethod("resources")));
+
+		assertThat(resources.replaced).containsExactly(0);
+		assertThat(resources.getContent()).containsExactly(BAR);
+	}
+
+	@Test
+	public void passesOnAsyncReturnValuesUnprocessed() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		CompletableFuture<Resource<String>> future = CompletableFuture.completedFuture(FOO);
+
+		invokeReturnValueHandler("future", future, future);
+	}
+
+	@Test
+	public void processesDispatchedResultOfCompletableFuture() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		invokeReturnValueHandler("future", FOO, BAR);
+	}
+
+	@Test
+	public void processesDispatchedResultOfListenableFuture() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		invokeReturnValueHandler("listenableFuture", FOO, BAR);
+	}
+
+	@Test
+	public void processesDispatchedResultOfCallable() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		invokeReturnValueHandler("callable", FOO, BAR);
+	}
+
+	@Test
+	public void processesDispatchedResultOfDeferredResult() throws Exception {
+
+		resourceProcessors.add(StringResourceProcessor.INSTANCE);
+
+		invokeReturnValueHandler("deferredResult", FOO_RESP_ENTITY, BAR_RESP_ENTITY);
+	}
+
+	private ResourceProcessorInvoker createInvoker(AtomicInteger executions) {
+
+		Executor executor = command -> {
+			executions.incrementAndGet();
+			new Thread(command).start();
+		};
+
+		ResourceProcessorInvoker invoker = new ResourceProcessorInvoker(resourceProcessors);
+		invoker.setExecutor(executor);
+		invoker.setParallelism(4);
+		invoker.setParallelThreshold(10);
+
+		return invoker;
+	}
+
+	private static Resources<Resource<String>> createResources(int size) {
+
+		return new Resources<>(IntStream.range(0, size) //
+				.mapToObj(it -> new Resource<>(String.valueOf(it))) //
+				.collect(Collectors.toList()));
+	}
+
 	private void invokeReturnValueHandler(String method, Object returnValue, Object expected) throws Exception {
 
 		MethodParameter methodParam = METHOD_PARAMS.get(method);
@@ -387,6 +642,83 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		}
 	}
 
+	static class SuffixingResourceProcessor implements ThreadSafeResourceProcessor<Resource<String>> {
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+			return new Resource<>(resource.getContent() + "!");
+		}
+	}
+
+	static class LinkingResourceProcessor implements ThreadSafeResourceProcessor<Resource<String>> {
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+
+			resource.add(linkTo(SampleController.class).slash(resource.getContent()).withSelfRel());
+			return resource;
+		}
+	}
+
+	@RequestMapping("/samples")
+	static class SampleController {}
+
+	@Order(1)
+	static class PrefixingResourceProcessor implements ThreadSafeResourceProcessor<Resource<String>> {
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+			return new Resource<>("<" + resource.getContent());
+		}
+	}
+
+	@Order(2)
+	static class SuffixingBatchResourceProcessor implements BatchResourceProcessor<Resource<String>> {
+
+		List<Integer> batchSizes = new ArrayList<>();
+
+		@Override
+		public List<Resource<String>> processAll(List<Resource<String>> resources) {
+
+			batchSizes.add(resources.size());
+
+			return resources.stream() //
+					.map(it -> new Resource<>(it.getContent() + "?")) //
+					.collect(Collectors.toList());
+		}
+	}
+
+	static class LinkAddingResourceProcessor implements ResourceProcessor<Resource<String>> {
+
+		@Override
+		public Resource<String> process(Resource<String> resource) {
+
+			resource.add(new Link("/" + resource.getContent()));
+			return resource;
+		}
+	}
+
+	static class TrackingResources extends Resources<Resource<String>> {
+
+		List<Integer> replaced = new ArrayList<>();
+
+		@SafeVarargs
+		TrackingResources(Resource<String>... content) {
+			super(Arrays.asList(content));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.Resources#replaceContent(int, java.lang.Object)
+		 */
+		@Override
+		public Resource<String> replaceContent(int index, Resource<String> element) {
+
+			this.replaced.add(index);
+			return super.replaceContent(index, element);
+		}
+	}
+
 	interface Controller {
 
 		Resources<Resource<String>> resources();
@@ -420,6 +752,14 @@ public class ResourceProcessorHandlerMethodReturnValueHandlerUnitTest {
 		Resources<Object> resourcesOfObject();
 
 		Resources<?> wildcardedResources();
+
+		CompletableFuture<Resource<String>> future();
+
+		ListenableFuture<Resource<String>> listenableFuture();
+
+		Callable<Resource<String>> callable();
+
+		DeferredResult<ResponseEntity<Resource<String>>> deferredResult();
 	}
 
 	static class StringResource extends Resource<String> {